@@ -1,11 +1,19 @@
 package com.example.backend.board.controller;
 
 import com.example.backend.board.dto.FilterEnum;
+import com.example.backend.board.dto.SortEnum;
 import com.example.backend.board.dto.SubEnum;
 import com.example.backend.board.dto.request.RequestDto;
+import com.example.backend.board.dto.response.BoardListResponseDto;
 import com.example.backend.board.dto.response.BoardResponseDto;
+import com.example.backend.board.dto.response.ChallengeAdmissionResponseDto;
+import com.example.backend.board.dto.response.ChallengeProgressResponseDto;
+import com.example.backend.board.dto.response.PageBoardListResponseDto;
 import com.example.backend.board.dto.response.PageBoardResponseDto;
 import com.example.backend.board.service.BoardService;
+import com.example.backend.board.service.BoardTrendingService;
+import com.example.backend.board.service.ChallengeAdmissionService;
+import com.example.backend.board.service.ChallengeProgressService;
 import com.example.backend.msg.MsgEnum;
 import com.example.backend.user.common.LoadUser;
 import io.swagger.annotations.ApiImplicitParam;
@@ -20,11 +28,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -32,6 +42,9 @@ import java.text.ParseException;
 public class BoardController {
 
     private final BoardService boardService;
+    private final ChallengeAdmissionService challengeAdmissionService;
+    private final BoardTrendingService boardTrendingService;
+    private final ChallengeProgressService challengeProgressService;
 
     @ApiOperation(value = "게시글 이미지 저장")
     @ApiImplicitParams({
@@ -81,34 +94,95 @@ public class BoardController {
     @ApiOperation(value = "전체 게시글 목록 조회")
     @ApiImplicitParams({
             @ApiImplicitParam(name = "Authorization", value = "Access Token", required = true, paramType = "header", dataTypeClass = String.class, example = "access_token"),
-            @ApiImplicitParam(name = "filter", value = "카테고리(daily/challenge/my)", dataType = "string", paramType = "query", dataTypeClass = FilterEnum.class),
+            @ApiImplicitParam(name = "filter", value = "카테고리(daily/challenge/my/open(신청 가능한 첼린지))", dataType = "string", paramType = "query", dataTypeClass = FilterEnum.class),
             @ApiImplicitParam(name = "keyword", value = "검색 키워드", dataType = "string", paramType = "query", dataTypeClass = String.class),
             @ApiImplicitParam(name = "pageable", value = "페이징 값(size, page, sort)", dataType = "Pageable", paramType = "query", dataTypeClass = Pageable.class),
-            @ApiImplicitParam(name = "sub", value = "(제목/내용으로 검색)title/content", dataType = "string", paramType = "query", dataTypeClass = SubEnum.class)
+            @ApiImplicitParam(name = "sub", value = "(제목/내용으로 검색)title/content", dataType = "string", paramType = "query", dataTypeClass = SubEnum.class),
+            @ApiImplicitParam(name = "order", value = "정렬(latest/views), latest 는 검색어가 있으면 검색 점수 순", dataType = "string", paramType = "query", dataTypeClass = SortEnum.class),
+            @ApiImplicitParam(name = "cursor", value = "cursor 방식 조회(첫 페이지는 빈 값, 이후 nextCursor), 없으면 page 방식", dataType = "string", paramType = "query", dataTypeClass = String.class)
     })
     @GetMapping("/board")
-    public ResponseEntity<PageBoardResponseDto> getBoardListV2(
+    public ResponseEntity<PageBoardListResponseDto> getBoardListV2(
         @RequestParam(required = false) FilterEnum filter,
         @RequestParam(defaultValue = "", required = false) String keyword,
         @RequestParam(defaultValue = "all", required = false) SubEnum sub,
-        @PageableDefault(sort="createdDate", direction= Sort.Direction.DESC) Pageable pageable
+        @RequestParam(name = "order", defaultValue = "latest", required = false) SortEnum sort,
+        @RequestParam(required = false) String cursor,
+        @PageableDefault(sort="createdDate", direction= Sort.Direction.DESC) Pageable pageable,
+        WebRequest webRequest
     ) {
         LoadUser.loginAndNickCheck();
-        PageBoardResponseDto responseDto = boardService.getBoardListV2(
-                filter, keyword, pageable, LoadUser.getEmail(), sub
+        // If-None-Match 가 현재 ETag 와 같으면 목록을 조회하지 않고 304
+        String eTag = boardService.getBoardListETag(filter, keyword, pageable, sub, sort, cursor);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        PageBoardListResponseDto responseDto = boardService.getBoardListV2(
+                filter, keyword, pageable, LoadUser.getEmail(), sub, sort, cursor
         );
+        // 캐시에 없던 페이지는 조회하면서 저장한 캐시 항목의 ETag 를 응답에 넣음
+        if (eTag == null && responseDto.getCachedETag() != null) {
+            return ResponseEntity.status(HttpStatus.OK).eTag(responseDto.getCachedETag()).body(responseDto);
+        }
         return ResponseEntity.status(HttpStatus.OK).body(responseDto);
     }
 
+    @ApiOperation(value = "게시글 제목 검색어 자동완성")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "Authorization", value = "Access Token", required = true, paramType = "header", dataTypeClass = String.class, example = "access_token"),
+            @ApiImplicitParam(name = "keyword", value = "입력 중인 검색어 (마지막 단어를 완성)", dataType = "string", paramType = "query", dataTypeClass = String.class),
+            @ApiImplicitParam(name = "size", value = "최대 개수 (최대 20)", dataType = "int", paramType = "query", dataTypeClass = Integer.class)
+    })
+    @GetMapping("/board/suggestions")
+    public ResponseEntity<List<String>> getSuggestions(
+            @RequestParam(defaultValue = "", required = false) String keyword,
+            @RequestParam(defaultValue = "10", required = false) int size
+    ) {
+        LoadUser.loginAndNickCheck();
+        return ResponseEntity.status(HttpStatus.OK).body(boardService.getSuggestions(keyword, size));
+    }
+
+    @ApiOperation(value = "인기 검색어")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "Authorization", value = "Access Token", required = true, paramType = "header", dataTypeClass = String.class, example = "access_token"),
+            @ApiImplicitParam(name = "size", value = "최대 개수 (최대 20)", dataType = "int", paramType = "query", dataTypeClass = Integer.class)
+    })
+    @GetMapping("/board/search/popular")
+    public ResponseEntity<List<String>> getPopularKeywords(
+            @RequestParam(defaultValue = "10", required = false) int size
+    ) {
+        LoadUser.loginAndNickCheck();
+        return ResponseEntity.status(HttpStatus.OK).body(boardService.getPopularKeywords(size));
+    }
+
+    @ApiOperation(value = "인기 첼린지 (최근 신청이 많은 순)")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "Authorization", value = "Access Token", required = true, paramType = "header", dataTypeClass = String.class, example = "access_token"),
+            @ApiImplicitParam(name = "size", value = "최대 개수 (board.trending.size 까지)", dataType = "int", paramType = "query", dataTypeClass = Integer.class)
+    })
+    @GetMapping("/board/trending")
+    public ResponseEntity<List<BoardListResponseDto>> getTrending(
+            @RequestParam(defaultValue = "10", required = false) int size
+    ) {
+        LoadUser.loginAndNickCheck();
+        return ResponseEntity.status(HttpStatus.OK).body(boardTrendingService.getTrending(size));
+    }
+
     @ApiOperation(value = "게시글 상세 조회 및 검색")
     @ApiImplicitParams({
         @ApiImplicitParam(name = "Authorization", value = "Access Token", required = true, paramType = "header", dataTypeClass = String.class, example = "access_token"),
     })
     @GetMapping("/board/{boardId}")
     public ResponseEntity<BoardResponseDto> getDetailBoard(
-            @PathVariable Long boardId
+            @PathVariable Long boardId,
+            WebRequest webRequest
     ) throws ParseException {
         LoadUser.loginAndNickCheck();
+        // 변경이 없으면 게시글/DTO 를 만들지 않고 304 (조회수는 그대로 집계)
+        if (webRequest.checkNotModified(boardService.getDetailBoardETag(boardId, LoadUser.getEmail()))) {
+            boardService.recordView(boardId, LoadUser.getEmail());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.status(HttpStatus.OK).body(boardService.getDetailBoard(boardId, LoadUser.getEmail()));
     }
 
@@ -151,12 +225,37 @@ public class BoardController {
         @PathVariable Long boardId
     ) throws Exception{
         LoadUser.loginAndNickCheck();
-        boardService.applyChallenge(boardId, LoadUser.getEmail());
+        //신청이 몰려서 대기열에 들어가면 202, 결과는 신청 상태 조회 api 로 확인
+        if (challengeAdmissionService.apply(boardId, LoadUser.getEmail())) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .contentType(new MediaType("applicaton", "text", StandardCharsets.UTF_8))
+                    .body(MsgEnum.CHALLENGE_APPLY_QUEUED.getMsg());
+        }
         return ResponseEntity.status(HttpStatus.OK)
                 .contentType(new MediaType("applicaton", "text", StandardCharsets.UTF_8))
                 .body(MsgEnum.CHALLENGE_APPLY_SUCCESS.getMsg());
     }
 
+    @ApiOperation(value = "첼린지 신청 대기 상태 조회")
+    @ApiImplicitParam(name = "Authorization", value = "Access Token", required = true, paramType = "header", dataTypeClass = String.class, example = "access_token")
+    @GetMapping("/board/{boardId}/challenge")
+    public ResponseEntity<ChallengeAdmissionResponseDto> getChallengeAdmission(
+            @PathVariable Long boardId
+    ) {
+        LoadUser.loginAndNickCheck();
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(challengeAdmissionService.getStatus(boardId, LoadUser.getEmail()));
+    }
+
+    @ApiOperation(value = "첼린지 진행 현황 (날짜별 완료 인원 / 완료율)")
+    @ApiImplicitParam(name = "Authorization", value = "Access Token", required = true, paramType = "header", dataTypeClass = String.class, example = "access_token")
+    @GetMapping("/board/{boardId}/progress")
+    public ResponseEntity<ChallengeProgressResponseDto> getChallengeProgress(@PathVariable Long boardId) {
+        LoadUser.loginAndNickCheck();
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(challengeProgressService.getProgress(boardId));
+    }
+
     //챌린저스 취소 api
     @ApiOperation(value = "첼린지 취소")
     @ApiImplicitParam(name = "Authorization", value = "Access Token", required = true, paramType = "header", dataTypeClass = String.class, example = "access_token")
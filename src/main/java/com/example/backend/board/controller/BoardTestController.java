@@ -2,7 +2,9 @@ package com.example.backend.board.controller;
 
 
 import com.example.backend.board.dto.FilterEnum;
+import com.example.backend.board.dto.SortEnum;
 import com.example.backend.board.dto.SubEnum;
+import com.example.backend.board.dto.response.PageBoardListResponseDto;
 import com.example.backend.board.dto.response.PageBoardResponseDto;
 import com.example.backend.board.service.BoardService;
 import com.example.backend.user.common.LoadUser;
@@ -39,14 +41,16 @@ public class BoardTestController {
     }
 
     @GetMapping("/test/board/v2")
-    public ResponseEntity<PageBoardResponseDto> getBoardListV2(
+    public ResponseEntity<PageBoardListResponseDto> getBoardListV2(
             @RequestParam(required = false) FilterEnum filter,
             @RequestParam(defaultValue = "", required = false) String keyword,
             @RequestParam(defaultValue = "all", required = false) SubEnum sub,
+            @RequestParam(name = "order", defaultValue = "latest", required = false) SortEnum sort,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(sort="createdDate", direction= Sort.Direction.DESC) Pageable pageable
     ) {
-        PageBoardResponseDto responseDto = boardService.getBoardListV2(
-                filter, keyword, pageable, "a@a.com", sub
+        PageBoardListResponseDto responseDto = boardService.getBoardListV2(
+                filter, keyword, pageable, "a@a.com", sub, sort, cursor
         );
         return ResponseEntity.status(HttpStatus.OK).body(responseDto);
     }
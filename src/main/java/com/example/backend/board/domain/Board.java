@@ -9,17 +9,38 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Getter
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
+// 변경된 컬럼만 UPDATE (참여자 수, 조회수, 버전은 BoardRepository 의 증감 쿼리로만 변경되므로 덮어쓰지 않도록)
+@DynamicUpdate
+@Table(indexes = {
+        // 커서 방식 목록 조회 (createdDate DESC, id DESC)
+        @Index(name = "IDX_BOARD_CREATED_DATE_ID", columnList = "createdDate, id"),
+        @Index(name = "IDX_BOARD_CATEGORY_CREATED_DATE_ID", columnList = "category, createdDate, id"),
+        // 신청 가능한 첼린지 조회 (category = CHALLENGE and challengeStartDate >= 오늘)
+        @Index(name = "IDX_BOARD_CATEGORY_CHALLENGE_START_DATE", columnList = "category, challengeStartDate"),
+        // 조회수 순 목록 (viewCount DESC, id DESC)
+        @Index(name = "IDX_BOARD_VIEW_COUNT_ID", columnList = "viewCount, id")
+})
 public class Board extends BaseTime {
 
+    // 목록에 보여줄 본문 미리보기 길이 (글자 수)
+    public static final int CONTENT_PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private Long id;
@@ -30,6 +51,11 @@ public class Board extends BaseTime {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // 목록 조회용 본문 앞부분, 작성/수정할 때 content 에서 만든다 (목록은 TEXT 컬럼을 읽지 않음)
+    // code point 기준으로 자르므로 UTF-16 길이로는 최대 2배
+    @Column(length = CONTENT_PREVIEW_LENGTH * 2)
+    private String contentPreview;
+
     @Column
     @Enumerated(EnumType.STRING)
     private Category category;
@@ -44,6 +70,33 @@ public class Board extends BaseTime {
     @Column
     private String chatRoomId;
 
+    // 상세/목록 응답의 ETag 기준, 수정 / 첼린지 신청 / 취소 때 BoardRepository 의 UPDATE 로 증가
+    // (JPA @Version 은 증감 쿼리와 섞이면 낙관적 락 실패가 나므로 일반 컬럼으로 관리)
+    @Column
+    @ColumnDefault("0")
+    private Long version;
+
+    // 조회수 / 순 방문자 수(추정치), BoardViewCounter 가 주기적으로 반영
+    @Column
+    @ColumnDefault("0")
+    private Long viewCount;
+
+    @Column
+    @ColumnDefault("0")
+    private Long uniqueViewerCount;
+
+    // 첼린지 기간 (BoardTodo 날짜 중 가장 이른 날 / 늦은 날), 일상글은 null
+    @Column
+    private LocalDate challengeStartDate;
+
+    @Column
+    private LocalDate challengeEndDate;
+
+    // 첼린지 날짜 수 (BoardTodo 개수), 목록에서 BoardTodo 를 읽지 않도록 저장할 때 같이 기록
+    @Column
+    @ColumnDefault("0")
+    private Integer todoDateCount;
+
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL)
     @BatchSize(size=100)
     private Set<BoardTodo> boardTodo = new LinkedHashSet<>();
@@ -57,15 +110,25 @@ public class Board extends BaseTime {
         this.user = user;
         this.title = requestDto.getTitle();
         this.content = requestDto.getContent();
+        this.contentPreview = preview(requestDto.getContent());
         this.imageUrl = requestDto.getImageUrl();
         this.participatingCount = 0L;
+        this.todoDateCount = 0;
+        this.version = 0L;
+        this.viewCount = 0L;
+        this.uniqueViewerCount = 0L;
     }
 
     public Board(String title, String content, User user){
         this.title = title;
         this.content = content;
+        this.contentPreview = preview(content);
         this.user = user;
         this.participatingCount = 0L;
+        this.todoDateCount = 0;
+        this.version = 0L;
+        this.viewCount = 0L;
+        this.uniqueViewerCount = 0L;
     }
 
     public void update(BoardRequestDto requestDto, User user){
@@ -73,6 +136,7 @@ public class Board extends BaseTime {
         this.user = user;
         this.title = requestDto.getTitle();
         this.content = requestDto.getContent();
+        this.contentPreview = preview(requestDto.getContent());
         this.imageUrl = requestDto.getImageUrl();
     }
 
@@ -85,7 +149,47 @@ public class Board extends BaseTime {
         this.chatRoomId = chatRoomId;
     }
 
-    public void minusParticipatingCount() {
-        this.participatingCount = this.participatingCount - 1;
+    // BoardTodo 를 저장할 때 함께 호출
+    public void updateChallengePeriod(Collection<Date> todoDates) {
+        for (Date todoDate : todoDates) {
+            // DB 에서 읽은 값은 java.sql.Timestamp 라 toInstant() 대신 epoch millis 로 변환
+            LocalDate date = Instant.ofEpochMilli(todoDate.getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+            if (challengeStartDate == null || date.isBefore(challengeStartDate)) {
+                challengeStartDate = date;
+            }
+            if (challengeEndDate == null || date.isAfter(challengeEndDate)) {
+                challengeEndDate = date;
+            }
+        }
+    }
+
+    public void updateTodoDateCount(int todoDateCount) {
+        this.todoDateCount = todoDateCount;
+    }
+
+    // 목록 컬럼 추가 전에 작성된 게시글 backfill 용
+    public void updateListColumns() {
+        this.contentPreview = preview(content);
+        this.todoDateCount = boardTodo.size();
+    }
+
+    // 앞에서 CONTENT_PREVIEW_LENGTH 글자 (이모지 등 surrogate pair 가 잘리지 않도록 code point 기준)
+    private static String preview(String content) {
+        if (content == null) {
+            return "";
+        }
+        if (content.codePointCount(0, content.length()) <= CONTENT_PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, CONTENT_PREVIEW_LENGTH));
+    }
+
+    // 첼린지가 아직 시작되지 않았으면 (오늘 시작이면 포함) 신청/취소 가능
+    public boolean isChallengeOpen(LocalDate today) {
+        if (challengeStartDate == null && !boardTodo.isEmpty()) {
+            // 기간 컬럼이 추가되기 전에 작성되어 아직 채워지지 않은 게시글
+            updateChallengePeriod(boardTodo.stream().map(BoardTodo::getTodoDate).collect(Collectors.toList()));
+        }
+        return challengeStartDate == null || !challengeStartDate.isBefore(today);
     }
 }
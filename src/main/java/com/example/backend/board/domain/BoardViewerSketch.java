@@ -0,0 +1,33 @@
+package com.example.backend.board.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/*
+ * 게시글 순 방문자 HyperLogLog register (BoardViewCounter 가 서버별로 모은 값을 병합해서 저장)
+ * Board 를 조회할 때마다 읽지 않도록 별도 테이블로 분리
+ * */
+@Getter
+@Entity
+@NoArgsConstructor
+public class BoardViewerSketch {
+
+    @Id
+    private Long boardId;
+
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] registers;
+
+    public BoardViewerSketch(Long boardId, byte[] registers) {
+        this.boardId = boardId;
+        this.registers = registers;
+    }
+
+    public void updateRegisters(byte[] registers) {
+        this.registers = registers;
+    }
+}
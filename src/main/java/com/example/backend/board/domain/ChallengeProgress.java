@@ -0,0 +1,50 @@
+package com.example.backend.board.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/*
+ * 첼린지 날짜별 완료 인원 (게시글 + 날짜당 한 row)
+ * 첼린지를 만들 때 날짜마다 0 으로 생성하고, 참여자 todo 완료 / 참여 취소 때 ChallengeProgressRepository 의 UPDATE 로 증감한다.
+ * 대시보드는 참여자 Todo 를 읽지 않고 이 row 들(날짜 수 만큼)만 읽는다. (Board 와 FK 없음)
+ * */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "UK_CHALLENGE_PROGRESS_BOARD_ID_TODO_DATE", columnNames = {"boardId", "todoDate"})
+})
+public class ChallengeProgress {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private LocalDate todoDate;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long doneCount;
+
+    public ChallengeProgress(Long boardId, LocalDate todoDate, long doneCount) {
+        this.boardId = boardId;
+        this.todoDate = todoDate;
+        this.doneCount = doneCount;
+    }
+
+    // Todo / BoardTodo 의 날짜 (DB 에서 읽은 값은 java.sql.Date 라 toInstant() 대신 epoch millis 로 변환)
+    public static LocalDate dayOf(Date todoDate) {
+        return Instant.ofEpochMilli(todoDate.getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.backend.board.dto;
 
 public enum FilterEnum {
-    challenge, daily, my
+    challenge, daily, my,
+    // 아직 시작하지 않아서 신청 가능한 첼린지
+    open
 }
@@ -0,0 +1,8 @@
+package com.example.backend.board.dto;
+
+public enum SortEnum {
+    // 검색어가 있으면 검색 점수, 없으면 최신순
+    latest,
+    // 조회수 순
+    views
+}
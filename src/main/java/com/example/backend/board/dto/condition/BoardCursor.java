@@ -0,0 +1,76 @@
+package com.example.backend.board.dto.condition;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/*
+ * 게시글 목록 커서 (마지막으로 받은 게시글의 정렬 키)
+ * 최신순이면 (createdDate, id), 조회수 순이면 (viewCount, createdDate, id), MATCH 검색이면 (matchScore, createdDate, id),
+ * 검색 색인이면 (색인 점수, id) 와 첫 페이지를 조회한 색인 세대(snapshot)
+ * 다른 조회 방식에서 만든 커서는 받지 않는다. 클라이언트에는 Base64 문자열로만 전달한다.
+ * */
+@Getter
+public class BoardCursor {
+
+    public enum Mode {
+        LATEST, VIEWS, MATCH, INDEX
+    }
+
+    private static final String DELIMITER = "|";
+
+    private final Mode mode;
+    private final String snapshot;
+    private final Double score;
+    private final LocalDateTime createdDate;
+    private final Long id;
+
+    public BoardCursor(Mode mode, String snapshot, Double score, LocalDateTime createdDate, Long id) {
+        this.mode = mode;
+        this.snapshot = snapshot;
+        this.score = score;
+        this.createdDate = createdDate;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = mode + DELIMITER + (snapshot == null ? "" : snapshot) + DELIMITER
+                + (score == null ? "" : score.toString()) + DELIMITER + createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 현재 조회 방식과 다른 커서면 INVALID_CURSOR
+    public void requireMode(Mode expected) {
+        if (mode != expected || (mode != Mode.LATEST && score == null) || (mode == Mode.INDEX && snapshot == null)) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    // 빈 문자열이면 첫 페이지 (null)
+    public static BoardCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split("\\|", -1);
+            if (values.length != 5) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new BoardCursor(
+                    Mode.valueOf(values[0]),
+                    values[1].isEmpty() ? null : values[1],
+                    values[2].isEmpty() ? null : Double.valueOf(values[2]),
+                    LocalDateTime.parse(values[3]),
+                    Long.valueOf(values[4])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -2,8 +2,8 @@ package com.example.backend.board.dto.condition;
 
 
 import com.example.backend.board.dto.FilterEnum;
+import com.example.backend.board.dto.SortEnum;
 import com.example.backend.board.dto.SubEnum;
-import com.example.backend.user.domain.User;
 import lombok.Data;
 
 @Data
@@ -12,12 +12,20 @@ public class BoardSearchCondition {
     private SubEnum sub;
     private FilterEnum filter;
     private String keyword;
-    private String email;
+    // filter 가 my 일 때만 사용
+    private Long userSeq;
+    // null 이면 latest
+    private SortEnum sort;
 
-    public BoardSearchCondition(SubEnum sub, FilterEnum filter, String keyword, String email) {
+    public BoardSearchCondition(SubEnum sub, FilterEnum filter, String keyword, Long userSeq, SortEnum sort) {
         this.sub = sub;
         this.filter = filter;
         this.keyword = keyword;
-        this.email = email;
+        this.userSeq = userSeq;
+        this.sort = sort;
+    }
+
+    public boolean isViewsSort() {
+        return SortEnum.views.equals(sort);
     }
 }
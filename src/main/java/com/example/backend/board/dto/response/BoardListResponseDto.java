@@ -0,0 +1,63 @@
+package com.example.backend.board.dto.response;
+
+import com.example.backend.board.domain.Category;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/*
+ * 게시글 목록용 응답 (본문 전체와 BoardTodo 날짜 목록은 상세 조회에서만 제공)
+ * participating / withTodoDeadline 은 기존 목록 응답(BoardResponseDto)과 같은 이름으로 유지한다.
+ * */
+@Data
+@NoArgsConstructor
+public class BoardListResponseDto {
+    private Long boardId;
+    private String title;
+
+    @ApiModelProperty(value="본문 앞부분 (최대 100자)")
+    private String contentPreview;
+
+    private String imageUrl;
+    private Category category;
+
+    private String authorEmail;
+
+    private String authorNick;
+
+    private String authorProfileImageUrl;
+
+    private String chatRoomId;
+
+    @ApiModelProperty(value="목록에서는 항상 false, 로그인한 사용자의 참여 여부는 상세 조회에서 판별")
+    private boolean participating;
+
+    @ApiModelProperty(value="위드투두 게시물의 시작일이 지났는지 판별 true 지남 false 않지남 (상세 조회와 같은 기준)")
+    private boolean withTodoDeadline;
+
+    @ApiModelProperty(value="참여자 수")
+    private Long participatingCount;
+
+    @ApiModelProperty(value="조회수 (주기적으로 반영되어 실제보다 조금 늦을 수 있음)")
+    private Long viewCount;
+
+    @ApiModelProperty(value="순 방문자 수 추정치")
+    private Long uniqueViewerCount;
+
+    @ApiModelProperty(value="첼린지 날짜 수 (일상글은 0)")
+    private Integer todoDateCount;
+
+    @ApiModelProperty(value="첼린지 시작일 / 종료일 (일상글은 null)")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate challengeStartDate;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate challengeEndDate;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime boardCreatedDate;
+}
@@ -40,6 +40,12 @@ public class BoardResponseDto {
     @ApiModelProperty(value="참여자 수")
     private Long ParticipatingCount;
 
+    @ApiModelProperty(value="조회수 (주기적으로 반영되어 실제보다 조금 늦을 수 있음)")
+    private Long viewCount;
+
+    @ApiModelProperty(value="순 방문자 수 추정치")
+    private Long uniqueViewerCount;
+
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "Asia/Seoul")
     private LocalDateTime boardCreatedDate;
 
@@ -59,6 +65,8 @@ public class BoardResponseDto {
         this.participating = participating;
         this.withTodoDeadline = withTodoDeadline;
         this.ParticipatingCount = board.getParticipatingCount();
+        this.viewCount = board.getViewCount();
+        this.uniqueViewerCount = board.getUniqueViewerCount();
         this.chatRoomId = board.getChatRoomId();
     }
 
@@ -74,9 +82,40 @@ public class BoardResponseDto {
         this.authorNick = board.getUser().getUsername();
         this.authorProfileImageUrl = board.getUser().getProfileImageUrl();
         this.ParticipatingCount = board.getParticipatingCount();
+        this.viewCount = board.getViewCount();
+        this.uniqueViewerCount = board.getUniqueViewerCount();
         this.chatRoomId = board.getChatRoomId();
     }
 
+    // 엔티티 없이 생성 (withParticipating 에서 사용)
+    public BoardResponseDto(Long boardId, String boardContent, String imageUrl, String title, Category category,
+                            String authorEmail, String authorNick, String authorProfileImageUrl, String chatRoomId,
+                            Long participatingCount, LocalDateTime boardCreatedDate, BoardTodoResponseDto todo) {
+        this.boardId = boardId;
+        this.boardContent = boardContent;
+        this.imageUrl = imageUrl;
+        this.title = title;
+        this.category = category;
+        this.authorEmail = authorEmail;
+        this.authorNick = authorNick;
+        this.authorProfileImageUrl = authorProfileImageUrl;
+        this.chatRoomId = chatRoomId;
+        this.ParticipatingCount = participatingCount;
+        this.boardCreatedDate = boardCreatedDate;
+        this.todo = todo;
+    }
+
+    // 여러 요청이 같이 쓰는 상세 조회 결과에 요청한 사용자의 참여 여부만 바꾼 복사본
+    public BoardResponseDto withParticipating(boolean participating) {
+        BoardResponseDto copy = new BoardResponseDto(boardId, boardContent, imageUrl, title, category,
+                authorEmail, authorNick, authorProfileImageUrl, chatRoomId, ParticipatingCount, boardCreatedDate, todo);
+        copy.participating = participating;
+        copy.withTodoDeadline = withTodoDeadline;
+        copy.viewCount = viewCount;
+        copy.uniqueViewerCount = uniqueViewerCount;
+        return copy;
+    }
+
     public static List<BoardResponseDto> getDtoList(List<Board> boardList){
         return boardList.stream()
                 .map(board -> new BoardResponseDto(board))
@@ -18,6 +18,9 @@ public class BoardTodoResponseDto {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
     private List<Date> todoDateList = new ArrayList<>();
 
+    public BoardTodoResponseDto() {
+    }
+
     public BoardTodoResponseDto(Set<BoardTodo> boardTodo){
         for(BoardTodo bt : boardTodo){
             this.todoContent = bt.getContent();
@@ -0,0 +1,23 @@
+package com.example.backend.board.dto.response;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChallengeAdmissionResponseDto {
+
+    public enum Status {
+        // 대기열을 거친 신청 기록이 없음 (바로 처리되었거나 결과 보관 시간이 지남)
+        NONE, QUEUED, APPLIED, FAILED
+    }
+
+    @ApiModelProperty(value="대기열 신청 상태 (NONE/QUEUED/APPLIED/FAILED)")
+    private Status status;
+
+    @ApiModelProperty(value="FAILED 일 때 실패 사유")
+    private String message;
+}
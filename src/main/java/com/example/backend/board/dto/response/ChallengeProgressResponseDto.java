@@ -0,0 +1,42 @@
+package com.example.backend.board.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChallengeProgressResponseDto {
+    private Long boardId;
+
+    @ApiModelProperty(value="참여자 수 (작성자 포함)")
+    private Long participantCount;
+
+    @ApiModelProperty(value="전체 완료 수 (날짜별 완료 인원의 합)")
+    private Long doneCount;
+
+    @ApiModelProperty(value="전체 완료율 (완료 수 / (참여자 수 x 날짜 수), 0 ~ 1)")
+    private double completionRate;
+
+    private List<DayProgress> days;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DayProgress {
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        private LocalDate todoDate;
+
+        @ApiModelProperty(value="해당 날짜 todo 를 완료한 인원")
+        private Long doneCount;
+
+        @ApiModelProperty(value="해당 날짜 완료율 (완료 인원 / 참여자 수, 0 ~ 1)")
+        private double completionRate;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.backend.board.dto.response;
+
+import com.example.backend.board.repository.BoardCursorSlice;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class PageBoardListResponseDto {
+    private List<BoardListResponseDto> content;
+
+    private boolean last;
+
+    @ApiModelProperty(value="다음 페이지 조회용 cursor (cursor 방식 조회이고 다음 페이지가 있을 때만)")
+    private String nextCursor;
+
+    // 목록 캐시에서 응답한 페이지의 ETag (BoardFeedCache 에서 설정, 응답 본문 / 캐시에는 넣지 않음)
+    @JsonIgnore
+    @ApiModelProperty(hidden = true)
+    private String cachedETag;
+
+    public PageBoardListResponseDto(Slice<BoardListResponseDto> boardSlice){
+        this.content = boardSlice.getContent();
+        this.last = boardSlice.isLast();
+    }
+
+    public PageBoardListResponseDto(BoardCursorSlice cursorSlice){
+        this.content = cursorSlice.getContent();
+        this.last = !cursorSlice.hasNext();
+        this.nextCursor = cursorSlice.hasNext() ? cursorSlice.getNextCursor().encode() : null;
+    }
+}
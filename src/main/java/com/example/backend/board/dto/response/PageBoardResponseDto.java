@@ -1,18 +1,19 @@
 package com.example.backend.board.dto.response;
 
-import com.example.backend.board.domain.Board;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 @Data
+@NoArgsConstructor
 public class PageBoardResponseDto {
     private List<BoardResponseDto> content;
 
     private boolean last;
 
-    public PageBoardResponseDto(List<BoardResponseDto> content, Slice<Board> boardPage){
+    public PageBoardResponseDto(List<BoardResponseDto> content, Slice<?> boardPage){
         this.content = content;
         this.last = boardPage.isLast();
     }
@@ -0,0 +1,61 @@
+package com.example.backend.board.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/*
+ * 게시글 변경 이벤트 (BoardService 에서 발행)
+ * 삭제, 참여자 변경 시에는 title, content 가 null
+ * participantDelta 는 참여자 변경 이벤트에서만 사용 (신청이면 양수, 취소면 음수)
+ * joinedAt 은 취소한 신청의 신청 시각 (모르면 null, 인기 순위에서 원래 신청의 가중치만큼 빼는 데 사용)
+ * */
+@Getter
+public class BoardChangedEvent {
+
+    public enum Type {
+        SAVED, UPDATED, DELETED, PARTICIPANTS_CHANGED
+    }
+
+    private final Long boardId;
+    private final Type type;
+    private final String title;
+    private final String content;
+    private final long participantDelta;
+    private final LocalDateTime joinedAt;
+
+    private BoardChangedEvent(Long boardId, Type type, String title, String content) {
+        this(boardId, type, title, content, 0, null);
+    }
+
+    private BoardChangedEvent(Long boardId, Type type, String title, String content, long participantDelta, LocalDateTime joinedAt) {
+        this.boardId = boardId;
+        this.type = type;
+        this.title = title;
+        this.content = content;
+        this.participantDelta = participantDelta;
+        this.joinedAt = joinedAt;
+    }
+
+    public static BoardChangedEvent saved(Long boardId, String title, String content) {
+        return new BoardChangedEvent(boardId, Type.SAVED, title, content);
+    }
+
+    public static BoardChangedEvent updated(Long boardId, String title, String content) {
+        return new BoardChangedEvent(boardId, Type.UPDATED, title, content);
+    }
+
+    public static BoardChangedEvent deleted(Long boardId) {
+        return new BoardChangedEvent(boardId, Type.DELETED, null, null);
+    }
+
+    // 첼린지 신청/취소로 참여자 수가 바뀐 경우
+    public static BoardChangedEvent participantsChanged(Long boardId, long participantDelta) {
+        return new BoardChangedEvent(boardId, Type.PARTICIPANTS_CHANGED, null, null, participantDelta, null);
+    }
+
+    // 첼린지 신청 한 건 취소 (joinedAt 은 취소한 신청의 신청 시각)
+    public static BoardChangedEvent participantCancelled(Long boardId, LocalDateTime joinedAt) {
+        return new BoardChangedEvent(boardId, Type.PARTICIPANTS_CHANGED, null, null, -1, joinedAt);
+    }
+}
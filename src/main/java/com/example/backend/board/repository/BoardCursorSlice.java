@@ -0,0 +1,26 @@
+package com.example.backend.board.repository;
+
+import com.example.backend.board.dto.condition.BoardCursor;
+import com.example.backend.board.dto.response.BoardListResponseDto;
+import lombok.Getter;
+
+import java.util.List;
+
+/*
+ * 커서 방식 목록 조회 결과 (다음 페이지가 없으면 nextCursor 는 null)
+ * */
+@Getter
+public class BoardCursorSlice {
+
+    private final List<BoardListResponseDto> content;
+    private final BoardCursor nextCursor;
+
+    public BoardCursorSlice(List<BoardListResponseDto> content, BoardCursor nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
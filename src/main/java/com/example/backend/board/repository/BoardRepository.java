@@ -6,7 +6,13 @@ import com.example.backend.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 
 public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
@@ -21,6 +27,10 @@ public interface BoardRepository extends JpaRepository<Board, Long>, BoardReposi
 
     List<Board> findByUser(User user);
 
+    // 탈퇴한 회원의 게시글을 검색 색인 / 목록 캐시에서 바로 빼기 위해 사용
+    @Query("select b.id from Board b where b.user = :user")
+    List<Long> findIdsByUser(@Param("user") User user);
+
     Page<Board> findByTitleContainingAndUser(String keyword, User user, Pageable pageable);
 
     Page<Board> findByTitleContainingAndCategory(String keyword, Category category, Pageable pageable);
@@ -35,4 +45,37 @@ public interface BoardRepository extends JpaRepository<Board, Long>, BoardReposi
 
     Page<Board> findByContentContaining(String keyword, Pageable pageable);
 
+    // 첼린지 기간 컬럼 backfill 용 (id 순서로 이어서 조회)
+    List<Board> findTop100ByCategoryAndChallengeStartDateIsNullAndIdGreaterThanOrderByIdAsc(Category category, Long id);
+
+    // 목록 컬럼(contentPreview, todoDateCount) backfill 용
+    List<Board> findTop100ByContentPreviewIsNullAndIdGreaterThanOrderByIdAsc(Long id);
+
+    // 참여자 수는 엔티티를 읽고 고치는 대신 UPDATE 한 번으로 증감 (동시 신청 시 갱신 손실 방지)
+    // 상세 응답이 바뀌므로 버전도 같이 올린다
+    @Modifying
+    @Query("update Board b set b.participatingCount = b.participatingCount + :count, b.version = coalesce(b.version, 0) + 1 where b.id = :id")
+    int increaseParticipatingCount(@Param("id") Long id, @Param("count") long count);
+
+    @Modifying
+    @Query("update Board b set b.participatingCount = b.participatingCount - 1, b.version = coalesce(b.version, 0) + 1 where b.id = :id and b.participatingCount > 0")
+    int decreaseParticipatingCount(@Param("id") Long id);
+
+    // 진행 현황 backfill 과 backfill 전 첼린지의 완료 반영이 순서대로 실행되도록 row lock (여러 개면 id 순서로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Board b where b.id in :ids order by b.id")
+    List<Board> findAllForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Board b set b.version = coalesce(b.version, 0) + 1 where b.id = :id")
+    int increaseVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Board b set b.viewCount = coalesce(b.viewCount, 0) + :count where b.id = :id")
+    int increaseViewCount(@Param("id") Long id, @Param("count") long count);
+
+    @Modifying
+    @Query("update Board b set b.uniqueViewerCount = :count where b.id = :id")
+    int updateUniqueViewerCount(@Param("id") Long id, @Param("count") long count);
+
 }
@@ -1,12 +1,24 @@
 package com.example.backend.board.repository;
 
-import com.example.backend.board.domain.Board;
+import com.example.backend.board.dto.condition.BoardCursor;
 import com.example.backend.board.dto.condition.BoardSearchCondition;
+import com.example.backend.board.dto.response.BoardListResponseDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface BoardRepositoryCustom {
 
-    Slice<Board> search(Pageable pageable, BoardSearchCondition searchCondition);
+    Slice<BoardListResponseDto> search(Pageable pageable, BoardSearchCondition searchCondition);
+
+    // cursor 가 null 이면 첫 페이지
+    BoardCursorSlice searchByCursor(int size, BoardCursor cursor, BoardSearchCondition searchCondition);
+
+    Optional<BoardVersion> findVersion(Long boardId);
+
+    // id 로만 조회 (PK IN), 신청 가능한 첼린지만 boardIds 순서대로
+    List<BoardListResponseDto> findOpenChallengesByIds(List<Long> boardIds);
 
 }
@@ -1,16 +1,20 @@
 package com.example.backend.board.repository;
 
-import com.example.backend.board.domain.Board;
 import com.example.backend.board.domain.Category;
 import com.example.backend.board.dto.FilterEnum;
 import com.example.backend.board.dto.SubEnum;
+import com.example.backend.board.dto.condition.BoardCursor;
 import com.example.backend.board.dto.condition.BoardSearchCondition;
+import com.example.backend.board.dto.response.BoardListResponseDto;
+import com.example.backend.board.search.BoardSearchIndex;
+import com.example.backend.board.search.SearchHits;
 import com.example.backend.exception.CustomException;
 import com.example.backend.exception.ErrorCode;
-import com.example.backend.user.domain.User;
-import com.example.backend.user.repository.UserRepository;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberTemplate;
@@ -20,114 +24,399 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static com.example.backend.board.domain.QBoard.board;
+import static com.example.backend.user.domain.QUser.user;
 import static org.thymeleaf.util.StringUtils.isEmpty;
 
 public class BoardRepositoryImpl implements BoardRepositoryCustom{
     private final JPAQueryFactory queryFactory;
-    private final UserRepository userRepository;
+    private final BoardSearchIndex boardSearchIndex;
 
-    public BoardRepositoryImpl(EntityManager em, UserRepository userRepository) {
+    // 검색 색인 결과를 DB 에서 읽을 때 한 번에 IN 으로 조회할 개수
+    private static final int RANKED_CHUNK_SIZE = 500;
+
+    // 목록 조회 시 필요한 컬럼만 조회 (본문 TEXT 대신 미리보기, BoardTodo 대신 날짜 수 / 기간)
+    private static final Expression<?>[] FEED_COLUMNS = {
+            board.id, board.title, board.contentPreview, board.imageUrl, board.category,
+            board.participatingCount, board.chatRoomId, board.createdDate,
+            board.viewCount, board.uniqueViewerCount,
+            board.todoDateCount, board.challengeStartDate, board.challengeEndDate,
+            user.email, user.username, user.profileImageUrl
+    };
+
+    public BoardRepositoryImpl(EntityManager em, BoardSearchIndex boardSearchIndex) {
         this.queryFactory = new JPAQueryFactory(em);
-        this.userRepository = userRepository;
+        this.boardSearchIndex = boardSearchIndex;
     }
 
     @Override
-    public Slice<Board> search(Pageable pageable, BoardSearchCondition searchCondition) {
-        List<Board> content = queryFactory.
-                selectFrom(board)
+    public Slice<BoardListResponseDto> search(Pageable pageable, BoardSearchCondition searchCondition) {
+        if (useSearchIndex(searchCondition)) {
+            SearchHits hits = boardSearchIndex.search(searchCondition.getKeyword(), searchCondition.getSub());
+            List<Tuple> rows = fetchRanked(hits, 0, pageable.getOffset(), pageable.getPageSize() + 1, searchCondition, null);
+            boolean hasNext = false;
+            if (rows.size() > pageable.getPageSize()) {
+                rows = rows.subList(0, pageable.getPageSize());
+                hasNext = true;
+            }
+            return new SliceImpl<>(toFeedDtoList(rows), pageable, hasNext);
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(FEED_COLUMNS)
+                .from(board)
+                .innerJoin(board.user, user)
                 .where(
-                        filterEq(searchCondition.getFilter(), searchCondition.getEmail()),
+                        filterEq(searchCondition.getFilter(), searchCondition.getUserSeq()),
                         keywordAndSubject(searchCondition.getKeyword(), searchCondition.getSub())
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
                 .orderBy(
-                        boardSort(pageable, searchCondition.getKeyword(), searchCondition.getSub())
+                        boardSort(searchCondition)
                             .stream().toArray(OrderSpecifier[]::new)
                         )
                 .fetch();
 
         boolean hasNext = false;
-        if (content.size() > pageable.getPageSize()) {
-            content.remove(pageable.getPageSize());
+        if (rows.size() > pageable.getPageSize()) {
+            rows = rows.subList(0, pageable.getPageSize());
             hasNext = true;
         }
 
-        return new SliceImpl<>(content, pageable, hasNext);
+        return new SliceImpl<>(toFeedDtoList(rows), pageable, hasNext);
     }
 
-    private BooleanExpression filterEq(FilterEnum filterEnum, String email) {
-        if (filterEnum == null){
+    @Override
+    public BoardCursorSlice searchByCursor(int size, BoardCursor cursor, BoardSearchCondition searchCondition) {
+        if (useSearchIndex(searchCondition)) {
+            return searchIndexByCursor(size, cursor, searchCondition);
+        }
+        if (searchCondition.isViewsSort()) {
+            return searchByViewsCursor(size, cursor, searchCondition);
+        }
+
+        NumberTemplate<Double> score = matchScore(searchCondition.getKeyword(), searchCondition.getSub());
+
+        List<OrderSpecifier<?>> orderSpecifierList = new ArrayList<>();
+        if (score != null) {
+            orderSpecifierList.add(score.desc());
+        }
+        orderSpecifierList.add(board.createdDate.desc());
+        orderSpecifierList.add(board.id.desc());
+
+        // 키워드 검색이면 다음 커서에 넣을 점수도 같이 조회
+        Expression<?>[] columns = FEED_COLUMNS;
+        if (score != null) {
+            columns = Arrays.copyOf(FEED_COLUMNS, FEED_COLUMNS.length + 1);
+            columns[FEED_COLUMNS.length] = score;
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(columns)
+                .from(board)
+                .innerJoin(board.user, user)
+                .where(
+                        filterEq(searchCondition.getFilter(), searchCondition.getUserSeq()),
+                        keywordAndSubject(searchCondition.getKeyword(), searchCondition.getSub()),
+                        afterCursor(cursor, score)
+                )
+                .limit(size + 1)
+                .orderBy(orderSpecifierList.stream().toArray(OrderSpecifier[]::new))
+                .fetch();
+
+        BoardCursor nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Tuple last = rows.get(size - 1);
+            nextCursor = new BoardCursor(
+                    score == null ? BoardCursor.Mode.LATEST : BoardCursor.Mode.MATCH,
+                    null,
+                    score == null ? null : last.get(score),
+                    last.get(board.createdDate),
+                    last.get(board.id)
+            );
+        }
+        return new BoardCursorSlice(toFeedDtoList(rows), nextCursor);
+    }
+
+    @Override
+    public Optional<BoardVersion> findVersion(Long boardId) {
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(BoardVersion.class, board.id, board.version, board.viewCount, user.modifiedDate))
+                .from(board)
+                .innerJoin(board.user, user)
+                .where(board.id.eq(boardId))
+                .fetchOne());
+    }
+
+    @Override
+    public List<BoardListResponseDto> findOpenChallengesByIds(List<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Tuple> rows = queryFactory
+                .select(FEED_COLUMNS)
+                .from(board)
+                .innerJoin(board.user, user)
+                .where(
+                        board.id.in(boardIds),
+                        activeAuthor(),
+                        board.category.eq(Category.CHALLENGE),
+                        board.challengeStartDate.isNull().or(board.challengeStartDate.goe(LocalDate.now()))
+                )
+                .fetch();
+
+        Map<Long, Tuple> rowMap = new HashMap<>();
+        for (Tuple row : rows) {
+            rowMap.put(row.get(board.id), row);
+        }
+        List<Tuple> ordered = new ArrayList<>(rows.size());
+        for (Long boardId : boardIds) {
+            Tuple row = rowMap.get(boardId);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return toFeedDtoList(ordered);
+    }
+
+    // 조회수 순 정렬은 검색어로 거르기만 하고 순서는 DB 에서 정함
+    private boolean useSearchIndex(BoardSearchCondition searchCondition) {
+        return !searchCondition.isViewsSort()
+                && searchCondition.getSub() != null
+                && !isEmpty(searchCondition.getKeyword())
+                && boardSearchIndex.isReady();
+    }
+
+    // 조회수 순, 커서는 (조회수, id) 기준 (조회수는 score 자리에 저장)
+    private BoardCursorSlice searchByViewsCursor(int size, BoardCursor cursor, BoardSearchCondition searchCondition) {
+        BooleanExpression afterCursor = null;
+        if (cursor != null) {
+            cursor.requireMode(BoardCursor.Mode.VIEWS);
+            long viewCount = cursor.getScore().longValue();
+            afterCursor = board.viewCount.lt(viewCount)
+                    .or(board.viewCount.eq(viewCount).and(board.id.lt(cursor.getId())));
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(FEED_COLUMNS)
+                .from(board)
+                .innerJoin(board.user, user)
+                .where(
+                        filterEq(searchCondition.getFilter(), searchCondition.getUserSeq()),
+                        keywordAndSubject(searchCondition.getKeyword(), searchCondition.getSub()),
+                        afterCursor
+                )
+                .limit(size + 1)
+                .orderBy(board.viewCount.desc(), board.id.desc())
+                .fetch();
+
+        BoardCursor nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Tuple last = rows.get(size - 1);
+            nextCursor = new BoardCursor(
+                    BoardCursor.Mode.VIEWS,
+                    null,
+                    last.get(board.viewCount).doubleValue(),
+                    last.get(board.createdDate),
+                    last.get(board.id)
+            );
+        }
+        return new BoardCursorSlice(toFeedDtoList(rows), nextCursor);
+    }
+
+    // 검색 색인 점수 순서 그대로, 커서는 (첫 페이지의 색인 세대, 점수, id) 기준
+    // 다음 페이지도 첫 페이지와 같은 검색 결과에서 이어가므로 그 사이 색인이 바뀌어도 건너뛰거나 중복되지 않는다
+    private BoardCursorSlice searchIndexByCursor(int size, BoardCursor cursor, BoardSearchCondition searchCondition) {
+        if (cursor != null) {
+            cursor.requireMode(BoardCursor.Mode.INDEX);
+        }
+        SearchHits hits = boardSearchIndex.searchSnapshot(
+                searchCondition.getKeyword(), searchCondition.getSub(), cursor == null ? null : cursor.getSnapshot()
+        );
+        if (hits == null) {
+            throw new CustomException(ErrorCode.EXPIRED_CURSOR);
+        }
+        int from = cursor == null ? 0 : hits.indexAfter(cursor.getScore(), cursor.getId());
+
+        List<Double> scores = new ArrayList<>();
+        List<Tuple> rows = fetchRanked(hits, from, 0, size + 1, searchCondition, scores);
+
+        BoardCursor nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Tuple last = rows.get(size - 1);
+            nextCursor = new BoardCursor(
+                    BoardCursor.Mode.INDEX, hits.getGeneration(), scores.get(size - 1), last.get(board.createdDate), last.get(board.id)
+            );
+        }
+        return new BoardCursorSlice(toFeedDtoList(rows), nextCursor);
+    }
+
+    /*
+     * 검색 결과 순서대로 게시글 조회
+     * 색인 결과를 RANKED_CHUNK_SIZE 개씩 IN 쿼리로 읽고, 필터(my / 카테고리)에 맞지 않거나 이미 삭제된 게시글, 탈퇴한 회원의 게시글은 건너뛴다.
+     * scores 가 null 이 아니면 조회된 게시글의 점수를 순서대로 담는다.
+     * */
+    private List<Tuple> fetchRanked(SearchHits hits, int from, long skip, int limit,
+                                    BoardSearchCondition searchCondition, List<Double> scores) {
+        BooleanExpression filter = filterEq(searchCondition.getFilter(), searchCondition.getUserSeq());
+        List<Tuple> result = new ArrayList<>();
+
+        for (int start = from; start < hits.size() && result.size() < limit; start += RANKED_CHUNK_SIZE) {
+            int end = Math.min(start + RANKED_CHUNK_SIZE, hits.size());
+            List<Long> ids = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                ids.add(hits.boardId(i));
+            }
+
+            Map<Long, Tuple> rowMap = new HashMap<>();
+            List<Tuple> chunk = queryFactory
+                    .select(FEED_COLUMNS)
+                    .from(board)
+                    .innerJoin(board.user, user)
+                    .where(board.id.in(ids), filter)
+                    .fetch();
+            for (Tuple row : chunk) {
+                rowMap.put(row.get(board.id), row);
+            }
+
+            for (int i = start; i < end && result.size() < limit; i++) {
+                Tuple row = rowMap.get(hits.boardId(i));
+                if (row == null) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                result.add(row);
+                if (scores != null) {
+                    scores.add(hits.score(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    // 목록 DTO 조립 (영속성 컨텍스트를 거치지 않음, 게시글 + 작성자 컬럼만으로 생성)
+    private List<BoardListResponseDto> toFeedDtoList(List<Tuple> rows) {
+        LocalDate today = LocalDate.now();
+        List<BoardListResponseDto> dtoList = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            LocalDate challengeStartDate = row.get(board.challengeStartDate);
+            BoardListResponseDto dto = new BoardListResponseDto();
+            dto.setBoardId(row.get(board.id));
+            dto.setTitle(row.get(board.title));
+            dto.setContentPreview(row.get(board.contentPreview));
+            dto.setImageUrl(row.get(board.imageUrl));
+            dto.setCategory(row.get(board.category));
+            dto.setAuthorEmail(row.get(user.email));
+            dto.setAuthorNick(row.get(user.username));
+            dto.setAuthorProfileImageUrl(row.get(user.profileImageUrl));
+            dto.setChatRoomId(row.get(board.chatRoomId));
+            // Board.isChallengeOpen 과 같은 기준 (시작일이 오늘이면 아직 신청 가능)
+            dto.setWithTodoDeadline(challengeStartDate != null && challengeStartDate.isBefore(today));
+            dto.setParticipatingCount(row.get(board.participatingCount));
+            dto.setViewCount(row.get(board.viewCount));
+            dto.setUniqueViewerCount(row.get(board.uniqueViewerCount));
+            dto.setTodoDateCount(row.get(board.todoDateCount));
+            dto.setChallengeStartDate(challengeStartDate);
+            dto.setChallengeEndDate(row.get(board.challengeEndDate));
+            dto.setBoardCreatedDate(row.get(board.createdDate));
+            dtoList.add(dto);
+        }
+        return dtoList;
+    }
+
+    private BooleanExpression afterCursor(BoardCursor cursor, NumberTemplate<Double> score) {
+        if (cursor == null) {
             return null;
+        }
+        cursor.requireMode(score == null ? BoardCursor.Mode.LATEST : BoardCursor.Mode.MATCH);
+        BooleanExpression afterCreated = board.createdDate.lt(cursor.getCreatedDate())
+                .or(board.createdDate.eq(cursor.getCreatedDate()).and(board.id.lt(cursor.getId())));
+        if (score == null) {
+            return afterCreated;
+        }
+        return score.lt(cursor.getScore())
+                .or(score.eq(cursor.getScore()).and(afterCreated));
+    }
+
+    // 탈퇴한 회원의 게시글은 UserDeletionScheduler 가 삭제하기 전에도 목록 / 검색에서 제외
+    private BooleanExpression filterEq(FilterEnum filterEnum, Long userSeq) {
+        BooleanExpression activeAuthor = activeAuthor();
+        if (filterEnum == null){
+            return activeAuthor;
         }else if(filterEnum.my.equals(filterEnum)){
-            User user = getUser(email);
-            return board.user.eq(user);
+            return activeAuthor.and(board.user.userSeq.eq(userSeq));
+        }else if(filterEnum.open.equals(filterEnum)){
+            return activeAuthor.and(board.category.eq(Category.CHALLENGE))
+                    .and(board.challengeStartDate.goe(LocalDate.now()));
         }else{
-            return board.category.eq(Category.valueOf(filterEnum.name().toUpperCase()));
+            return activeAuthor.and(board.category.eq(Category.valueOf(filterEnum.name().toUpperCase())));
         }
     }
 
+    // FEED_COLUMNS 조회는 모두 board.user 를 user 로 join 하므로 join 한 컬럼으로 비교
+    private static BooleanExpression activeAuthor() {
+        return user.deletedYn.eq("N");
+    }
+
     private BooleanExpression keywordAndSubject(String keyword, SubEnum subEnum){
-        if (subEnum == null){
-            return null;
-        }else if (isEmpty(keyword)){
-            return null;
-        }else if(subEnum.title.equals(subEnum)){
-            NumberTemplate booleanTemplate = Expressions.numberTemplate(Double.class,
-                    "function('match',{0},{1})", board.title, "" + keyword + "*");
-            return booleanTemplate.gt(0);
-        }else if(subEnum.content.equals(subEnum)){
-            NumberTemplate booleanTemplate = Expressions.numberTemplate(Double.class,
-                    "function('match',{0},{1})", board.content, "" + keyword + "*");
-            return booleanTemplate.gt(0);
-        }else{
-            NumberTemplate booleanTemplate = Expressions.numberTemplate(Double.class,
-                    "function('matchs',{0},{1},{2})", board.title, board.content, "" + keyword + "*");
-            return booleanTemplate.gt(0);
-        }
+        NumberTemplate<Double> score = matchScore(keyword, subEnum);
+        return score == null ? null : score.gt(0);
     }
 
-    private List<OrderSpecifier<?>> boardSort(Pageable page, String keyword, SubEnum subEnum) {
+    private List<OrderSpecifier<?>> boardSort(BoardSearchCondition searchCondition) {
         List<OrderSpecifier<?>> orderSpecifierList = new ArrayList<>();
+        if (searchCondition.isViewsSort()) {
+            orderSpecifierList.add(board.viewCount.desc());
+            orderSpecifierList.add(board.id.desc());
+            return orderSpecifierList;
+        }
 
-        OrderSpecifier<?> matchOrder = keywordAndSubjectSort(keyword, subEnum);
+        OrderSpecifier<?> matchOrder = keywordAndSubjectSort(searchCondition.getKeyword(), searchCondition.getSub());
         if (matchOrder != null){
             orderSpecifierList.add(matchOrder);
         }
         orderSpecifierList.add(new OrderSpecifier(Order.DESC, board.createdDate));
+        // 작성 시각이 같은 글의 순서를 고정 (페이지 구성과 목록 ETag 가 매번 같도록)
+        orderSpecifierList.add(board.id.desc());
 
         return orderSpecifierList;
     }
 
     private OrderSpecifier<?> keywordAndSubjectSort(String keyword, SubEnum subEnum){
+        NumberTemplate<Double> score = matchScore(keyword, subEnum);
+        return score == null ? null : new OrderSpecifier(Order.DESC, score);
+    }
+
+    // 검색어가 있을 때 full-text 매칭 점수 (없으면 null)
+    private NumberTemplate<Double> matchScore(String keyword, SubEnum subEnum){
         if (subEnum == null){
             return null;
         }else if (isEmpty(keyword)){
             return null;
-        }else {
-            Order direction = Order.DESC;
-            NumberTemplate booleanTemplate;
-            if(subEnum.title.equals(subEnum)){
-                booleanTemplate = Expressions.numberTemplate(Double.class,
-                        "function('match',{0},{1})", board.title, "" + keyword + "*");
-            }else if(subEnum.content.equals(subEnum)){
-                booleanTemplate = Expressions.numberTemplate(Double.class,
-                        "function('match',{0},{1})", board.content, "" + keyword + "*");
-            }else{
-                booleanTemplate = Expressions.numberTemplate(Double.class,
-                        "function('matchs',{0},{1},{2})", board.title, board.content, "" + keyword + "*");
-            }
-            return new OrderSpecifier(direction, booleanTemplate);
+        }else if(subEnum.title.equals(subEnum)){
+            return Expressions.numberTemplate(Double.class,
+                    "function('match',{0},{1})", board.title, "" + keyword + "*");
+        }else if(subEnum.content.equals(subEnum)){
+            return Expressions.numberTemplate(Double.class,
+                    "function('match',{0},{1})", board.content, "" + keyword + "*");
+        }else{
+            return Expressions.numberTemplate(Double.class,
+                    "function('matchs',{0},{1},{2})", board.title, board.content, "" + keyword + "*");
         }
     }
-
-    private User getUser(String email) {
-        return userRepository.findByEmail(email).orElseThrow(
-                () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
-    }
 }
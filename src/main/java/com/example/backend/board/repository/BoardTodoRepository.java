@@ -2,6 +2,14 @@ package com.example.backend.board.repository;
 
 import com.example.backend.board.domain.BoardTodo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
 
 public interface BoardTodoRepository extends JpaRepository<BoardTodo, Long> {
+
+    @Query("select bt.todoDate from BoardTodo bt where bt.board.id = :boardId")
+    List<Date> findTodoDates(@Param("boardId") Long boardId);
 }
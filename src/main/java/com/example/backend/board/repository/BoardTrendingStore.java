@@ -0,0 +1,150 @@
+package com.example.backend.board.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * 인기 첼린지 순위 (Redis ZSET, 최근 신청 속도 기준)
+ * 신청 한 건의 점수는 half-life 마다 절반으로 줄어든다.
+ * 모든 점수를 매번 줄이는 대신 기준 시각(epoch) 이후 지난 시간만큼 새 신청의 가중치를 2^(경과/half-life) 로 키워서 더하고,
+ * rebase 에서 기준 시각을 현재로 옮기면서 전체 점수를 한 번에 줄인다. (순서는 기준 시각과 상관없이 같음)
+ * 가중치 계산은 TrendingScore 에서 하고, 스크립트는 계산할 때 쓴 기준 시각이 Redis 의 기준 시각과 같을 때만 반영한다.
+ * (그 사이 rebase 로 기준 시각이 바뀌었으면 새 기준 시각으로 다시 계산)
+ * */
+@Repository
+public class BoardTrendingStore {
+
+    private static final String RANKING_KEY = "board_trending:ranking";
+    private static final String EPOCH_KEY = "board_trending:epoch";
+    // 기준 시각이 바뀌어서 다시 계산하는 횟수 (rebase 는 드물게 실행되므로 보통 한 번이면 충분)
+    private static final int MAX_ATTEMPTS = 3;
+
+    /*
+     * ARGV : 계산에 쓴 기준 시각, 가중치, 게시글 id, 기준 시각이 없을 때 설정할 값
+     * 반환값은 Redis 의 기준 시각 (계산에 쓴 기준 시각과 다르면 반영하지 않음)
+     * 취소는 0 아래로 내리지 않고 순위에도 남겨둔다. (0 에 가까운 게시글은 rebase 에서 제거)
+     * */
+    private static final RedisScript<String> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = redis.call('GET', KEYS[2]) " +
+                    "if not epoch then redis.call('SET', KEYS[2], ARGV[4]) epoch = ARGV[4] end " +
+                    "if epoch ~= ARGV[1] then return epoch end " +
+                    "local weight = tonumber(ARGV[2]) " +
+                    "if weight < 0 then " +
+                    "local score = redis.call('ZSCORE', KEYS[1], ARGV[3]) " +
+                    "if not score then return epoch end " +
+                    "if tonumber(score) + weight < 0 then weight = -tonumber(score) end " +
+                    "end " +
+                    "redis.call('ZINCRBY', KEYS[1], tostring(weight), ARGV[3]) " +
+                    "return epoch",
+            String.class
+    );
+
+    /*
+     * ARGV : 계산에 쓴 기준 시각, 새 기준 시각, 전체 점수에 곱할 값, 최소 점수
+     * 기준 시각을 옮기고 전체 점수를 줄인 뒤 거의 0 이 된 게시글은 제거, 반환값은 Redis 의 기준 시각
+     * */
+    private static final RedisScript<String> REBASE_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = redis.call('GET', KEYS[2]) " +
+                    "if epoch and epoch ~= ARGV[1] then return epoch end " +
+                    "if epoch then " +
+                    "redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', ARGV[3]) " +
+                    "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[4]) " +
+                    "end " +
+                    "redis.call('SET', KEYS[2], ARGV[2]) " +
+                    "return ARGV[2]",
+            String.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long halfLifeMillis;
+    private final double minScore;
+    // 마지막으로 확인한 Redis 의 기준 시각 (없으면 null)
+    private volatile String epoch;
+
+    public BoardTrendingStore(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${board.trending.half-life-minutes:360}") long halfLifeMinutes,
+            @Value("${board.trending.min-score:0.05}") double minScore
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.halfLifeMillis = Math.max(halfLifeMinutes, 1) * 60_000L;
+        this.minScore = minScore;
+    }
+
+    // 신청 (현재 시각 기준)
+    public void add(Long boardId, long participantDelta) {
+        add(boardId, participantDelta, System.currentTimeMillis());
+    }
+
+    /*
+     * participantDelta : 신청이면 양수, 취소면 음수
+     * at : 가중치를 계산할 시각, 취소는 원래 신청 시각 (이미 줄어든 만큼만 빼도록, 모르면 현재 시각)
+     * */
+    public void add(Long boardId, long participantDelta, long at) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String expected = epoch;
+            double weight = expected == null
+                    ? 0 : TrendingScore.weight(participantDelta, at, Long.parseLong(expected), halfLifeMillis);
+            String current = stringRedisTemplate.execute(
+                    ADD_SCRIPT,
+                    Arrays.asList(RANKING_KEY, EPOCH_KEY),
+                    expected == null ? "" : expected,
+                    String.valueOf(weight),
+                    String.valueOf(boardId),
+                    String.valueOf(System.currentTimeMillis())
+            );
+            if (current == null || current.equals(expected)) {
+                return;
+            }
+            epoch = current;
+        }
+        throw new IllegalStateException("trending epoch changed while adding board " + boardId);
+    }
+
+    public void remove(Long boardId) {
+        stringRedisTemplate.opsForZSet().remove(RANKING_KEY, String.valueOf(boardId));
+    }
+
+    // 점수 높은 순 게시글 id
+    public List<Long> findTop(int count) {
+        Set<String> boardIds = stringRedisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, count - 1);
+        List<Long> result = new ArrayList<>();
+        if (boardIds != null) {
+            for (String boardId : boardIds) {
+                result.add(Long.valueOf(boardId));
+            }
+        }
+        return result;
+    }
+
+    // 남은 게시글 수
+    public long rebase() {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String expected = epoch;
+            long now = System.currentTimeMillis();
+            double factor = expected == null ? 1 : TrendingScore.rebaseFactor(Long.parseLong(expected), now, halfLifeMillis);
+            String current = stringRedisTemplate.execute(
+                    REBASE_SCRIPT,
+                    Arrays.asList(RANKING_KEY, EPOCH_KEY),
+                    expected == null ? "" : expected,
+                    String.valueOf(now),
+                    String.valueOf(factor),
+                    String.valueOf(minScore)
+            );
+            epoch = current;
+            if (String.valueOf(now).equals(current)) {
+                Long size = stringRedisTemplate.opsForZSet().zCard(RANKING_KEY);
+                return size == null ? 0 : size;
+            }
+        }
+        throw new IllegalStateException("trending epoch changed while rebasing");
+    }
+}
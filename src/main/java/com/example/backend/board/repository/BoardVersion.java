@@ -0,0 +1,25 @@
+package com.example.backend.board.repository;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/*
+ * 상세 조회 ETag 계산용 게시글 버전
+ * */
+@Getter
+public class BoardVersion {
+
+    private final Long id;
+    private final long version;
+    private final long viewCount;
+    // 작성자 닉네임 / 프로필 이미지가 바뀌면 상세 응답도 바뀌므로 같이 비교
+    private final LocalDateTime authorModifiedDate;
+
+    public BoardVersion(Long id, Long version, Long viewCount, LocalDateTime authorModifiedDate) {
+        this.id = id;
+        this.version = version == null ? 0 : version;
+        this.viewCount = viewCount == null ? 0 : viewCount;
+        this.authorModifiedDate = authorModifiedDate;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.backend.board.repository;
+
+import com.example.backend.board.domain.BoardViewerSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface BoardViewerSketchRepository extends JpaRepository<BoardViewerSketch, Long> {
+
+    // 여러 서버가 동시에 병합해도 register 를 덮어쓰지 않도록 row lock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from BoardViewerSketch s where s.boardId = :boardId")
+    Optional<BoardViewerSketch> findForUpdate(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("delete from BoardViewerSketch s where s.boardId = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+}
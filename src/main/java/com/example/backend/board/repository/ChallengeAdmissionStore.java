@@ -0,0 +1,177 @@
+package com.example.backend.board.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * 첼린지 신청 대기열 (Redis)
+ * 게시글별 초당 신청 수가 burst-threshold 를 넘거나 이미 대기 중인 신청이 있으면 LIST 에 userSeq 를 넣고,
+ * ChallengeAdmissionScheduler 가 batch 단위로 꺼내서 처리한다. (대기열이 있는 게시글은 SET 으로 관리)
+ * 신청 결과는 사용자별 상태 키(QUEUED / APPLIED / FAILED:<ErrorCode>)에 TTL 과 함께 남긴다.
+ * */
+@Repository
+@Slf4j
+public class ChallengeAdmissionStore {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String APPLIED = "APPLIED";
+    public static final String FAILED_PREFIX = "FAILED:";
+
+    private static final String BOARDS_KEY = "challenge_admission:boards";
+    private static final String QUEUE_KEY_PREFIX = "challenge_admission:queue:";
+    private static final String RATE_KEY_PREFIX = "challenge_admission:rate:";
+    private static final String STATUS_KEY_PREFIX = "challenge_admission:status:";
+    private static final String FAILURE_KEY_PREFIX = "challenge_admission:failure:";
+
+    public enum Admission {
+        // 바로 처리
+        DIRECT,
+        // 대기열에 추가
+        QUEUED,
+        // 이미 대기 중
+        ALREADY_QUEUED,
+        // 대기열이 가득 참
+        FULL
+    }
+
+    // 이번 초의 신청 수를 세고, 몰리는 중이거나 앞선 대기가 있으면 대기열 뒤에 추가
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "local rate = redis.call('INCR', KEYS[1]) " +
+                    "if rate == 1 then redis.call('EXPIRE', KEYS[1], 2) end " +
+                    "if redis.call('GET', KEYS[3]) == ARGV[5] then return 2 end " +
+                    "local length = redis.call('LLEN', KEYS[2]) " +
+                    "if rate <= tonumber(ARGV[1]) and length == 0 then return 0 end " +
+                    "if tonumber(ARGV[2]) > 0 and length >= tonumber(ARGV[2]) then return 3 end " +
+                    "redis.call('RPUSH', KEYS[2], ARGV[3]) " +
+                    "redis.call('SADD', KEYS[4], ARGV[4]) " +
+                    "redis.call('SET', KEYS[3], ARGV[5], 'EX', ARGV[6]) " +
+                    "return 1",
+            Long.class
+    );
+
+    // 처리한 만큼 앞에서 제거하고, 비었으면 대기 게시글 목록에서도 제거
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('LTRIM', KEYS[1], tonumber(ARGV[1]), -1) " +
+                    "if redis.call('LLEN', KEYS[1]) == 0 then " +
+                    "redis.call('SREM', KEYS[2], ARGV[2]) " +
+                    "end " +
+                    "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    private final int burstThreshold;
+    private final int queueCapacity;
+    private final Duration statusTtl;
+
+    public ChallengeAdmissionStore(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${board.admission.enabled:true}") boolean enabled,
+            @Value("${board.admission.burst-threshold:30}") int burstThreshold,
+            @Value("${board.admission.queue-capacity:0}") int queueCapacity,
+            @Value("${board.admission.status-ttl-seconds:600}") long statusTtlSeconds
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.burstThreshold = burstThreshold;
+        this.queueCapacity = queueCapacity;
+        this.statusTtl = Duration.ofSeconds(statusTtlSeconds);
+    }
+
+    public Admission tryEnqueue(Long boardId, Long userSeq) {
+        if (!enabled) {
+            return Admission.DIRECT;
+        }
+        try {
+            Long result = stringRedisTemplate.execute(
+                    ENQUEUE_SCRIPT,
+                    Arrays.asList(
+                            RATE_KEY_PREFIX + boardId + ":" + System.currentTimeMillis() / 1000,
+                            QUEUE_KEY_PREFIX + boardId,
+                            statusKey(boardId, userSeq),
+                            BOARDS_KEY
+                    ),
+                    String.valueOf(burstThreshold),
+                    String.valueOf(queueCapacity),
+                    String.valueOf(userSeq),
+                    String.valueOf(boardId),
+                    QUEUED,
+                    String.valueOf(statusTtl.getSeconds())
+            );
+            if (result == null || result == 0L) {
+                return Admission.DIRECT;
+            }
+            return result == 1L ? Admission.QUEUED : result == 2L ? Admission.ALREADY_QUEUED : Admission.FULL;
+        } catch (RuntimeException e) {
+            // Redis 를 쓸 수 없으면 기존처럼 바로 처리
+            log.warn("failed to enqueue challenge application", e);
+            return Admission.DIRECT;
+        }
+    }
+
+    public List<Long> findPendingBoards() {
+        Set<String> boardIds = stringRedisTemplate.opsForSet().members(BOARDS_KEY);
+        List<Long> result = new ArrayList<>();
+        if (boardIds != null) {
+            for (String boardId : boardIds) {
+                result.add(Long.valueOf(boardId));
+            }
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    // 앞에서부터 최대 count 개 (꺼내지는 않음, 처리 후 complete 로 제거)
+    public List<Long> peek(Long boardId, int count) {
+        List<String> userSeqs = stringRedisTemplate.opsForList().range(QUEUE_KEY_PREFIX + boardId, 0, count - 1);
+        List<Long> result = new ArrayList<>();
+        if (userSeqs != null) {
+            for (String userSeq : userSeqs) {
+                result.add(Long.valueOf(userSeq));
+            }
+        }
+        return result;
+    }
+
+    // results : userSeq → 결과 (APPLIED 또는 FAILED:<ErrorCode>)
+    public void complete(Long boardId, Map<Long, String> results, int processed) {
+        for (Map.Entry<Long, String> entry : results.entrySet()) {
+            stringRedisTemplate.opsForValue().set(statusKey(boardId, entry.getKey()), entry.getValue(), statusTtl);
+        }
+        stringRedisTemplate.execute(
+                COMPLETE_SCRIPT,
+                Arrays.asList(QUEUE_KEY_PREFIX + boardId, BOARDS_KEY),
+                String.valueOf(processed),
+                String.valueOf(boardId)
+        );
+    }
+
+    // 맨 앞 신청의 처리 실패 횟수를 세고 반환 (맨 앞이 바뀌면 새 키로 다시 셈)
+    public long recordFailure(Long boardId, Long headUserSeq) {
+        String key = FAILURE_KEY_PREFIX + boardId + ":" + headUserSeq;
+        Long failures = stringRedisTemplate.opsForValue().increment(key);
+        stringRedisTemplate.expire(key, statusTtl);
+        return failures == null ? 1L : failures;
+    }
+
+    public String getStatus(Long boardId, Long userSeq) {
+        return stringRedisTemplate.opsForValue().get(statusKey(boardId, userSeq));
+    }
+
+    private static String statusKey(Long boardId, Long userSeq) {
+        return STATUS_KEY_PREFIX + boardId + ":" + userSeq;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.backend.board.repository;
+
+import com.example.backend.board.domain.ChallengeProgress;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ChallengeProgressRepository extends JpaRepository<ChallengeProgress, Long> {
+
+    List<ChallengeProgress> findByBoardIdOrderByTodoDateAsc(Long boardId);
+
+    boolean existsByBoardIdAndTodoDate(Long boardId, LocalDate todoDate);
+
+    // 완료 / 완료한 참여자의 취소를 row 를 읽지 않고 UPDATE 한 번으로 반영 (0 아래로는 내려가지 않음)
+    @Modifying
+    @Query("update ChallengeProgress p set p.doneCount = p.doneCount + :count " +
+            "where p.boardId = :boardId and p.todoDate = :todoDate and p.doneCount + :count >= 0")
+    int increaseDoneCount(@Param("boardId") Long boardId, @Param("todoDate") LocalDate todoDate, @Param("count") long count);
+
+    // 날짜별 집계가 아직 없는 첼린지 (backfill 용, id 순서로 이어서 조회)
+    @Query("select b.id from Board b where b.category = com.example.backend.board.domain.Category.CHALLENGE and b.id > :id " +
+            "and not exists (select p.id from ChallengeProgress p where p.boardId = b.id) order by b.id")
+    List<Long> findChallengeIdsWithoutProgress(@Param("id") Long id, Pageable pageable);
+}
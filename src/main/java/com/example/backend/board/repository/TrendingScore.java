@@ -0,0 +1,22 @@
+package com.example.backend.board.repository;
+
+/*
+ * 인기 첼린지 점수 계산 (BoardTrendingStore 에서 사용, Redis 스크립트는 계산된 값을 더하기만 한다)
+ * 신청 한 건은 기준 시각(epoch) 에서 볼 때 2^((신청 시각 - epoch) / half-life) 만큼의 점수를 가진다.
+ * 기준 시각을 옮기면 모든 점수에 같은 값을 곱하므로 순서는 바뀌지 않는다.
+ * */
+final class TrendingScore {
+
+    private TrendingScore() {
+    }
+
+    // at 시각의 신청 delta 건을 epoch 기준으로 환산한 점수 (취소면 음수)
+    static double weight(long delta, long at, long epoch, long halfLifeMillis) {
+        return delta * Math.pow(2, (double) (at - epoch) / halfLifeMillis);
+    }
+
+    // 기준 시각을 epoch 에서 newEpoch 로 옮길 때 모든 점수에 곱할 값
+    static double rebaseFactor(long epoch, long newEpoch, long halfLifeMillis) {
+        return Math.pow(2, (double) (epoch - newEpoch) / halfLifeMillis);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.backend.board.scheduler;
+
+import com.example.backend.board.domain.Board;
+import com.example.backend.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/*
+ * 목록 컬럼(contentPreview, todoDateCount) 추가 전에 작성된 게시글 backfill
+ * 기동 시 한 번, 100개씩 트랜잭션을 나눠서 content / BoardTodo 로 채운다. (여러 서버가 동시에 실행해도 같은 값으로 채워짐)
+ * */
+@Component
+@Slf4j
+public class BoardListColumnBackfill {
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BoardListColumnBackfill(BoardRepository boardRepository, PlatformTransactionManager transactionManager) {
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0;
+        long count = 0;
+        try {
+            while (true) {
+                long afterId = lastId;
+                Long last = transactionTemplate.execute(status -> fillChunk(afterId));
+                if (last == null) {
+                    break;
+                }
+                lastId = last;
+                count++;
+            }
+            if (count > 0) {
+                log.info("board list columns backfilled up to board {}", lastId);
+            }
+        } catch (RuntimeException e) {
+            // 채워지지 않은 게시글은 목록에서 미리보기 없이 보이고, 다음 기동 때 다시 시도
+            log.error("failed to backfill board list columns", e);
+        }
+    }
+
+    // chunk 하나를 채우고 마지막 게시글 id 를 반환 (남은 게시글이 없으면 null)
+    private Long fillChunk(long afterId) {
+        List<Board> boards = boardRepository.findTop100ByContentPreviewIsNullAndIdGreaterThanOrderByIdAsc(afterId);
+        if (boards.isEmpty()) {
+            return null;
+        }
+        for (Board board : boards) {
+            board.updateListColumns();
+        }
+        return boards.get(boards.size() - 1).getId();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.backend.board.scheduler;
+
+import com.example.backend.board.repository.BoardTrendingStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * 인기 첼린지 점수의 기준 시각을 주기적으로 현재로 옮긴다.
+ * 새 신청의 가중치가 너무 커지지 않게 하고, 오래전에 신청이 끝난 게시글은 순위에서 제거한다.
+ * */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardTrendingScheduler {
+
+    private final BoardTrendingStore boardTrendingStore;
+
+    @Scheduled(fixedDelayString = "${board.trending.rebase-millis:3600000}")
+    @SchedulerLock(name = "boardTrendingRebaseLock", lockAtMostFor = "5m")
+    public void rebase() {
+        try {
+            long size = boardTrendingStore.rebase();
+            log.debug("rebased trending challenges, {} boards left", size);
+        } catch (RuntimeException e) {
+            log.error("failed to rebase trending challenges", e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.backend.board.scheduler;
+
+import com.example.backend.board.repository.ChallengeAdmissionStore;
+import com.example.backend.board.service.BoardService;
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 첼린지 신청 대기열 처리 Worker
+ * 대기 중인 게시글마다 batch-size 만큼 꺼내서 트랜잭션 하나로 Todo 를 저장한다.
+ * 커밋 후에 결과를 남기고 대기열에서 제거하므로, 중간에 실패하면 다음 실행에서 같은 신청부터 다시 처리한다.
+ * (이미 신청된 사용자는 ALREADY_APPLY_CHALLENGE 로 걸러짐)
+ * 같은 신청이 맨 앞에 있는 채로 max-attempts 번 실패하면 그 신청만 FAILED:<ErrorCode> 로 남기고 대기열에서 뺀다.
+ * */
+@Component
+@Slf4j
+public class ChallengeAdmissionScheduler {
+
+    private final ChallengeAdmissionStore challengeAdmissionStore;
+    private final BoardService boardService;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public ChallengeAdmissionScheduler(
+            ChallengeAdmissionStore challengeAdmissionStore,
+            BoardService boardService,
+            @Value("${board.admission.batch-size:100}") int batchSize,
+            @Value("${board.admission.max-attempts:5}") int maxAttempts
+    ) {
+        this.challengeAdmissionStore = challengeAdmissionStore;
+        this.boardService = boardService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${board.admission.drain-millis:200}")
+    @SchedulerLock(name = "challengeAdmissionLock", lockAtMostFor = "1m")
+    public void drain() {
+        for (Long boardId : challengeAdmissionStore.findPendingBoards()) {
+            List<Long> userSeqs = Collections.emptyList();
+            try {
+                userSeqs = challengeAdmissionStore.peek(boardId, batchSize);
+                Map<Long, String> results = new LinkedHashMap<>();
+                if (!userSeqs.isEmpty()) {
+                    Map<Long, ErrorCode> errors = boardService.applyChallengeBatch(boardId, userSeqs);
+                    for (Map.Entry<Long, ErrorCode> entry : errors.entrySet()) {
+                        results.put(entry.getKey(), entry.getValue() == null
+                                ? ChallengeAdmissionStore.APPLIED
+                                : ChallengeAdmissionStore.FAILED_PREFIX + entry.getValue().name());
+                    }
+                }
+                challengeAdmissionStore.complete(boardId, results, userSeqs.size());
+            } catch (RuntimeException e) {
+                log.error("failed to process challenge admission queue of board {}", boardId, e);
+                if (!userSeqs.isEmpty()) {
+                    dropHeadIfExhausted(boardId, userSeqs.get(0), e);
+                }
+            }
+        }
+    }
+
+    // 다음 실행에서 다시 시도하되, 같은 맨 앞 신청이 계속 실패하면 그 신청만 실패로 남기고 제거
+    private void dropHeadIfExhausted(Long boardId, Long headUserSeq, RuntimeException cause) {
+        try {
+            if (challengeAdmissionStore.recordFailure(boardId, headUserSeq) < maxAttempts) {
+                return;
+            }
+            ErrorCode errorCode = cause instanceof CustomException
+                    ? ((CustomException) cause).getCode()
+                    : ErrorCode.CHALLENGE_APPLY_FAILED;
+            log.warn("drop challenge application of user {} on board {} after {} attempts", headUserSeq, boardId, maxAttempts);
+            challengeAdmissionStore.complete(
+                    boardId,
+                    Collections.singletonMap(headUserSeq, ChallengeAdmissionStore.FAILED_PREFIX + errorCode.name()),
+                    1
+            );
+        } catch (RuntimeException e) {
+            log.error("failed to record challenge admission failure of board {}", boardId, e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.board.scheduler;
+
+import com.example.backend.board.domain.Board;
+import com.example.backend.board.domain.BoardTodo;
+import com.example.backend.board.domain.Category;
+import com.example.backend.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+ * 첼린지 기간 컬럼(challengeStartDate, challengeEndDate) 추가 전에 작성된 게시글 backfill
+ * 기동 시 한 번, 100개씩 트랜잭션을 나눠서 BoardTodo 날짜로 채운다. (여러 서버가 동시에 실행해도 같은 값으로 채워짐)
+ * */
+@Component
+@Slf4j
+public class ChallengePeriodBackfill {
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChallengePeriodBackfill(BoardRepository boardRepository, PlatformTransactionManager transactionManager) {
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0;
+        long count = 0;
+        try {
+            while (true) {
+                long afterId = lastId;
+                Long last = transactionTemplate.execute(status -> fillChunk(afterId));
+                if (last == null) {
+                    break;
+                }
+                lastId = last;
+                count++;
+            }
+            if (count > 0) {
+                log.info("challenge period backfilled up to board {}", lastId);
+            }
+        } catch (RuntimeException e) {
+            // 남은 게시글은 조회 시(Board.isChallengeOpen) 채워지고, 다음 기동 때 다시 시도
+            log.error("failed to backfill challenge period", e);
+        }
+    }
+
+    // chunk 하나를 채우고 마지막 게시글 id 를 반환 (남은 게시글이 없으면 null)
+    private Long fillChunk(long afterId) {
+        List<Board> boards = boardRepository
+                .findTop100ByCategoryAndChallengeStartDateIsNullAndIdGreaterThanOrderByIdAsc(Category.CHALLENGE, afterId);
+        if (boards.isEmpty()) {
+            return null;
+        }
+        for (Board board : boards) {
+            board.updateChallengePeriod(board.getBoardTodo().stream()
+                    .map(BoardTodo::getTodoDate)
+                    .collect(Collectors.toList()));
+        }
+        return boards.get(boards.size() - 1).getId();
+    }
+}
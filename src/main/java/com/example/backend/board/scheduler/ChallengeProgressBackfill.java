@@ -0,0 +1,107 @@
+package com.example.backend.board.scheduler;
+
+import com.example.backend.board.domain.ChallengeProgress;
+import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.board.repository.BoardTodoRepository;
+import com.example.backend.board.repository.ChallengeProgressRepository;
+import com.example.backend.todo.repository.TodoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+ * 진행 현황(ChallengeProgress) 추가 전에 작성된 첼린지 backfill
+ * 기동 시 한 번, 100개씩 트랜잭션을 나눠서 BoardTodo 날짜와 완료된 참여자 Todo 수로 채운다.
+ * 여러 서버가 동시에 채우면 unique 제약에 걸린 쪽은 실패하고 다른 서버가 채운 값이 남는다.
+ * 세는 동안 완료된 todo 가 빠지지 않도록 게시글 row lock 을 잡고 (ChallengeProgressService.changeDoneCount 와 같은 lock),
+ * READ COMMITTED 로 lock 을 잡기 전에 커밋된 완료까지 센다.
+ * */
+@Component
+@Slf4j
+public class ChallengeProgressBackfill {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final ChallengeProgressRepository challengeProgressRepository;
+    private final BoardRepository boardRepository;
+    private final BoardTodoRepository boardTodoRepository;
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChallengeProgressBackfill(
+            ChallengeProgressRepository challengeProgressRepository,
+            BoardRepository boardRepository,
+            BoardTodoRepository boardTodoRepository,
+            TodoRepository todoRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.challengeProgressRepository = challengeProgressRepository;
+        this.boardRepository = boardRepository;
+        this.boardTodoRepository = boardTodoRepository;
+        this.todoRepository = todoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0;
+        long count = 0;
+        try {
+            while (true) {
+                long afterId = lastId;
+                Long last = transactionTemplate.execute(status -> fillChunk(afterId));
+                if (last == null) {
+                    break;
+                }
+                lastId = last;
+                count++;
+            }
+            if (count > 0) {
+                log.info("challenge progress backfilled up to board {}", lastId);
+            }
+        } catch (RuntimeException e) {
+            // 채워지지 않은 첼린지는 진행 현황이 비어 보이고, 다음 기동 때 다시 시도
+            log.error("failed to backfill challenge progress", e);
+        }
+    }
+
+    // chunk 하나를 채우고 마지막 게시글 id 를 반환 (남은 첼린지가 없으면 null)
+    private Long fillChunk(long afterId) {
+        List<Long> boardIds = challengeProgressRepository.findChallengeIdsWithoutProgress(afterId, PageRequest.of(0, CHUNK_SIZE));
+        if (boardIds.isEmpty()) {
+            return null;
+        }
+        boardRepository.findAllForUpdate(boardIds);
+        List<ChallengeProgress> progressList = new ArrayList<>();
+        for (Long boardId : boardIds) {
+            Map<LocalDate, Long> doneCounts = new TreeMap<>();
+            for (Date todoDate : boardTodoRepository.findTodoDates(boardId)) {
+                doneCounts.put(ChallengeProgress.dayOf(todoDate), 0L);
+            }
+            for (Object[] row : todoRepository.countDoneByTodoDate(boardId)) {
+                LocalDate day = ChallengeProgress.dayOf((Date) row[0]);
+                if (doneCounts.containsKey(day)) {
+                    doneCounts.put(day, doneCounts.get(day) + (Long) row[1]);
+                }
+            }
+            for (Map.Entry<LocalDate, Long> entry : doneCounts.entrySet()) {
+                progressList.add(new ChallengeProgress(boardId, entry.getKey(), entry.getValue()));
+            }
+        }
+        challengeProgressRepository.saveAll(progressList);
+        return boardIds.get(boardIds.size() - 1);
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.backend.board.search;
+
+import com.example.backend.board.dto.SubEnum;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.core.Tuple;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.example.backend.board.domain.QBoard.board;
+
+/*
+ * 게시글 제목/내용 검색용 메모리 역색인
+ * 한글은 bigram, 그 외 단어는 접두어 검색으로 MySQL full-text(ngram) 검색을 대신한다.
+ * 기동 시와 주기적으로 BoardSearchRebuilder 가 DB 에서 다시 만들고, 그 사이 변경은 BoardSearchIndexSynchronizer 가 반영한다.
+ * 최초 생성이 끝나기 전에는 isReady() 가 false 이고, 이때는 기존 MATCH 쿼리를 사용한다.
+ * 점수(BM25)는 색인이 바뀔 때마다 달라지므로, cursor 방식은 첫 페이지의 검색 결과를 세대 번호로 잠시 보관해서 다음 페이지도 같은 순서로 이어간다.
+ * */
+@Component
+public class BoardSearchIndex {
+
+    private static final int[] TITLE_FIELDS = {InvertedIndex.TITLE};
+    private static final int[] CONTENT_FIELDS = {InvertedIndex.CONTENT};
+    private static final int[] ALL_FIELDS = {InvertedIndex.TITLE, InvertedIndex.CONTENT};
+    private static final double[] SINGLE_WEIGHT = {1.0};
+    // 제목에서 매칭된 경우를 내용보다 높게
+    private static final double[] ALL_WEIGHTS = {2.0, 1.0};
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 다른 서버에서 만든 세대 번호와 겹치지 않도록
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    // (세대, 검색 대상, 검색어) → 검색 결과, 보관한 결과 건수 합으로 크기 제한
+    private final Cache<String, SearchHits> snapshots;
+
+    // 아래 필드는 lock 으로 보호
+    private InvertedIndex index = new InvertedIndex();
+    // 재생성 중에 변경된 게시글도 새 색인에 반영되도록 보관
+    private InvertedIndex rebuilding;
+    private Set<Long> removedDuringRebuild;
+    // 색인이 바뀔 때마다 증가
+    private long generation;
+
+    private volatile boolean ready;
+
+    public BoardSearchIndex(
+            @Value("${board.search.snapshot-max-hits:1000000}") long snapshotMaxHits,
+            @Value("${board.search.snapshot-expire-seconds:600}") long snapshotExpireSeconds
+    ) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumWeight(snapshotMaxHits)
+                .weigher((String key, SearchHits hits) -> hits.size() + 1)
+                .expireAfterAccess(Duration.ofSeconds(snapshotExpireSeconds))
+                .build();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public SearchHits search(String keyword, SubEnum subEnum) {
+        List<HangulBigramTokenizer.Token> tokens = HangulBigramTokenizer.tokenize(keyword);
+        lock.readLock().lock();
+        try {
+            if (SubEnum.title.equals(subEnum)) {
+                return index.search(tokens, TITLE_FIELDS, SINGLE_WEIGHT).withGeneration(currentGeneration());
+            } else if (SubEnum.content.equals(subEnum)) {
+                return index.search(tokens, CONTENT_FIELDS, SINGLE_WEIGHT).withGeneration(currentGeneration());
+            }
+            return index.search(tokens, ALL_FIELDS, ALL_WEIGHTS).withGeneration(currentGeneration());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+     * cursor 방식 검색, generation 이 null 이면 첫 페이지
+     * 다음 페이지는 첫 페이지를 조회한 세대의 결과를 그대로 사용하고, 보관된 결과가 없으면 (만료 / 다른 서버) null
+     * */
+    public SearchHits searchSnapshot(String keyword, SubEnum subEnum, String generation) {
+        if (generation != null) {
+            SearchHits snapshot = snapshots.getIfPresent(snapshotKey(generation, keyword, subEnum));
+            if (snapshot != null) {
+                return snapshot;
+            }
+        }
+        SearchHits hits = search(keyword, subEnum);
+        if (generation != null && !generation.equals(hits.getGeneration())) {
+            return null;
+        }
+        snapshots.put(snapshotKey(hits.getGeneration(), keyword, subEnum), hits);
+        return hits;
+    }
+
+    public void index(Long boardId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            index.add(boardId, title, content);
+            if (rebuilding != null) {
+                rebuilding.add(boardId, title, content);
+                removedDuringRebuild.remove(boardId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long boardId) {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            index.remove(boardId);
+            if (rebuilding != null) {
+                rebuilding.remove(boardId);
+                removedDuringRebuild.add(boardId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 재생성 시작, 이후 index / remove 는 새 색인에도 반영
+    void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = new InvertedIndex();
+            removedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // rows : board.id, board.title, board.content
+    void addRebuilt(List<Tuple> rows) {
+        lock.writeLock().lock();
+        try {
+            for (Tuple row : rows) {
+                Long boardId = row.get(board.id);
+                // 읽는 동안 이미 반영된 변경(수정/삭제)이 더 최신
+                if (!rebuilding.contains(boardId) && !removedDuringRebuild.contains(boardId)) {
+                    rebuilding.add(boardId, row.get(board.title), row.get(board.content));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 끝까지 읽었으면 새 색인으로 교체, 실패했으면 기존 색인 유지
+    int finishRebuild(boolean completed) {
+        int size;
+        lock.writeLock().lock();
+        try {
+            if (completed) {
+                generation++;
+                index = rebuilding;
+            }
+            rebuilding = null;
+            removedDuringRebuild = null;
+            size = index.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (completed) {
+            ready = true;
+        }
+        return size;
+    }
+
+    // lock 안에서 호출
+    private String currentGeneration() {
+        return instanceId + "." + generation;
+    }
+
+    private static String snapshotKey(String generation, String keyword, SubEnum subEnum) {
+        return generation + "|" + subEnum + "|" + keyword;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.backend.board.search;
+
+import com.example.backend.board.event.BoardChangedEvent;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static com.example.backend.board.domain.QBoard.board;
+
+/*
+ * 게시글 변경을 검색 색인과 제목 자동완성에 반영 (검색 결과 캐시는 비움)
+ * 커밋 후에 로컬 색인을 바로 갱신하고, Redis 채널로 다른 서버에 게시글 id 를 전달한다.
+ * 다른 서버는 DB 에서 게시글을 다시 읽어서 반영한다. (메시지: "<nodeId>:U:<boardId>" / "<nodeId>:D:<boardId>")
+ * */
+@Component
+@Slf4j
+public class BoardSearchIndexSynchronizer {
+
+    private static final String CHANNEL = "board-search";
+    private static final String UPDATED = "U";
+    private static final String DELETED = "D";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final BoardSearchIndex boardSearchIndex;
+    private final TitleSuggester titleSuggester;
+    private final SearchResultCache searchResultCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JPAQueryFactory queryFactory;
+
+    public BoardSearchIndexSynchronizer(
+            BoardSearchIndex boardSearchIndex,
+            TitleSuggester titleSuggester,
+            SearchResultCache searchResultCache,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            EntityManager em
+    ) {
+        this.boardSearchIndex = boardSearchIndex;
+        this.titleSuggester = titleSuggester;
+        this.searchResultCache = searchResultCache;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.queryFactory = new JPAQueryFactory(em);
+        redisMessageListenerContainer.addMessageListener(this::onMessage, ChannelTopic.of(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        // 제목/내용이 바뀌지 않는 변경은 무시
+        if (event.getType() == BoardChangedEvent.Type.PARTICIPANTS_CHANGED) {
+            return;
+        }
+        String type;
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            remove(event.getBoardId());
+            type = DELETED;
+        } else {
+            index(event.getBoardId(), event.getTitle(), event.getContent());
+            type = UPDATED;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId + ":" + type + ":" + event.getBoardId());
+        } catch (RuntimeException e) {
+            // 다른 서버는 다음 재생성 때 반영된다
+            log.warn("failed to publish board search update", e);
+        }
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            Long boardId = Long.valueOf(parts[2]);
+            if (DELETED.equals(parts[1])) {
+                remove(boardId);
+            } else {
+                reload(boardId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to apply board search update : {}", parts[2], e);
+        }
+    }
+
+    // 다른 서버에서 변경된 게시글은 DB 에서 다시 읽어서 반영 (삭제됐거나 탈퇴한 회원의 게시글이면 제거)
+    private void reload(Long boardId) {
+        Tuple row = queryFactory
+                .select(board.title, board.content)
+                .from(board)
+                .where(board.id.eq(boardId), board.user.deletedYn.eq("N"))
+                .fetchOne();
+        if (row == null) {
+            remove(boardId);
+        } else {
+            index(boardId, row.get(board.title), row.get(board.content));
+        }
+    }
+
+    private void index(Long boardId, String title, String content) {
+        boardSearchIndex.index(boardId, title, content);
+        titleSuggester.index(boardId, title);
+        searchResultCache.invalidateAll();
+    }
+
+    private void remove(Long boardId) {
+        boardSearchIndex.remove(boardId);
+        titleSuggester.remove(boardId);
+        searchResultCache.invalidateAll();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.backend.board.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.backend.board.domain.QBoard.board;
+
+/*
+ * 검색 색인(BoardSearchIndex)과 제목 자동완성(TitleSuggester) 재생성
+ * 게시글을 batch-size 씩 한 번만 읽어서 두 곳에 같이 넣는다.
+ * 기동 시에는 async Thread 에서 실행해서 기동을 막지 않고, 끝나기 전 검색은 기존 MATCH 쿼리를 사용한다.
+ * */
+@Component
+@Slf4j
+public class BoardSearchRebuilder {
+
+    private final JPAQueryFactory queryFactory;
+    private final BoardSearchIndex boardSearchIndex;
+    private final TitleSuggester titleSuggester;
+    private final int batchSize;
+    // 기동 시 재생성과 주기적인 재생성이 겹치지 않도록
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public BoardSearchRebuilder(
+            EntityManager em,
+            BoardSearchIndex boardSearchIndex,
+            TitleSuggester titleSuggester,
+            @Value("${board.search.batch-size:1000}") int batchSize
+    ) {
+        this.queryFactory = new JPAQueryFactory(em);
+        this.boardSearchIndex = boardSearchIndex;
+        this.titleSuggester = titleSuggester;
+        this.batchSize = batchSize;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${board.search.rebuild-millis:3600000}", initialDelayString = "${board.search.rebuild-millis:3600000}")
+    public void rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("board search rebuild is already running");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        boardSearchIndex.beginRebuild();
+        titleSuggester.beginRebuild();
+        boolean completed = false;
+        try {
+            long lastId = 0;
+            List<Tuple> rows;
+            do {
+                rows = queryFactory
+                        .select(board.id, board.title, board.content)
+                        .from(board)
+                        .where(board.id.gt(lastId), board.user.deletedYn.eq("N"))
+                        .orderBy(board.id.asc())
+                        .limit(batchSize)
+                        .fetch();
+                boardSearchIndex.addRebuilt(rows);
+                titleSuggester.addRebuilt(rows);
+                if (!rows.isEmpty()) {
+                    lastId = rows.get(rows.size() - 1).get(board.id);
+                }
+            } while (rows.size() == batchSize);
+            completed = true;
+        } catch (RuntimeException e) {
+            log.error("failed to rebuild board search index", e);
+        } finally {
+            int size = boardSearchIndex.finishRebuild(completed);
+            titleSuggester.finishRebuild(completed);
+            running.set(false);
+            if (completed) {
+                log.info("board search index and title suggestions rebuilt : {} boards ({}ms)", size, System.currentTimeMillis() - start);
+            }
+        }
+    }
+}
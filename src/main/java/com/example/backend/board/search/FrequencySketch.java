@@ -0,0 +1,80 @@
+package com.example.backend.board.search;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * 검색어 / 검색 결과 키의 최근 빈도 추정 (Count-Min Sketch, TinyLFU 방식)
+ * 4 개의 행에서 서로 다른 hash 로 고른 칸 중 가장 작은 값을 빈도로 본다.
+ * 증가 횟수가 sampleSize 에 닿으면 모든 칸을 절반으로 줄여서 오래된 빈도가 점점 사라지게 한다.
+ * */
+public class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private final int[][] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    // width 는 2 의 거듭제곱으로 올림
+    public FrequencySketch(int width) {
+        int size = Integer.highestOneBit(Math.max(width, 16) - 1) << 1;
+        this.table = new int[DEPTH][size];
+        this.mask = size - 1;
+        this.sampleSize = size * 10;
+    }
+
+    // 증가시킨 뒤의 추정 빈도
+    public synchronized int increment(String item) {
+        long hash = hash(item);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(hash, row);
+            if (table[row][index] < Integer.MAX_VALUE) {
+                table[row][index]++;
+            }
+            estimate = Math.min(estimate, table[row][index]);
+        }
+        if (++additions >= sampleSize) {
+            reset();
+        }
+        return estimate;
+    }
+
+    public synchronized int frequency(String item) {
+        long hash = hash(item);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, table[row][index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    private void reset() {
+        for (int[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+        additions = additions >>> 1;
+    }
+
+    private int index(long hash, int row) {
+        long h = (hash ^ SEEDS[row]) * 0x9e3779b97f4a7c15L;
+        h ^= h >>> 32;
+        return (int) h & mask;
+    }
+
+    // FNV-1a 64bit
+    private static long hash(String item) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : item.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.backend.board.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/*
+ * 검색용 토크나이저
+ * 한글은 연속된 글자를 2글자씩 잘라서(bigram) 부분 문자열 검색이 되도록 하고,
+ * 그 외 문자/숫자는 단어 단위로 자른다. (한 글자 한글 단어는 그대로 사용)
+ * */
+public final class HangulBigramTokenizer {
+
+    private HangulBigramTokenizer() {
+    }
+
+    public static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        int i = 0;
+        int length = normalized.length();
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                if (i - start == 1) {
+                    tokens.add(new Token(normalized.substring(start, i), true));
+                } else {
+                    for (int j = start; j + 1 < i; j++) {
+                        tokens.add(new Token(normalized.substring(j, j + 2), true));
+                    }
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && !isHangul(normalized.charAt(i)) && Character.isLetterOrDigit(normalized.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(normalized.substring(start, i), false));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+
+    public static class Token {
+        private final String term;
+        // 한글 bigram 은 정확히 일치, 그 외 단어는 검색 시 앞부분 일치(prefix)로 확장
+        private final boolean hangul;
+
+        Token(String term, boolean hangul) {
+            this.term = term;
+            this.hangul = hangul;
+        }
+
+        public String getTerm() {
+            return term;
+        }
+
+        public boolean isHangul() {
+            return hangul;
+        }
+    }
+}
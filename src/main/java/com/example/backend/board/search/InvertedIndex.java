@@ -0,0 +1,264 @@
+package com.example.backend.board.search;
+
+import com.example.backend.board.search.HangulBigramTokenizer.Token;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+ * 제목/내용 필드별 역색인 (동기화는 BoardSearchIndex 에서 처리)
+ * 문서 번호는 추가 순서대로 증가하므로 posting list 는 별도 정렬 없이 int 배열 뒤에 붙인다.
+ * 삭제/수정된 문서는 deleted 로 표시만 하고, 공간은 주기적인 재생성 때 정리된다.
+ * 대신 posting list 마다 살아있는 문서 수(live)를 따로 세어서, idf 의 df 에는 삭제된 posting 이 포함되지 않는다.
+ * */
+class InvertedIndex {
+
+    static final int TITLE = 0;
+    static final int CONTENT = 1;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final SearchHits EMPTY = new SearchHits(new long[0], new double[0]);
+
+    private final FieldIndex[] fields = {new FieldIndex(), new FieldIndex()};
+    private final Map<Long, Integer> docByBoardId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] boardIds = new long[1024];
+    private int docCount;
+    private int liveCount;
+
+    boolean contains(long boardId) {
+        return docByBoardId.containsKey(boardId);
+    }
+
+    void add(long boardId, String title, String content) {
+        remove(boardId);
+        int doc = docCount++;
+        if (doc == boardIds.length) {
+            boardIds = Arrays.copyOf(boardIds, boardIds.length * 2);
+        }
+        boardIds[doc] = boardId;
+        docByBoardId.put(boardId, doc);
+        liveCount++;
+        fields[TITLE].add(doc, HangulBigramTokenizer.tokenize(title));
+        fields[CONTENT].add(doc, HangulBigramTokenizer.tokenize(content));
+    }
+
+    void remove(long boardId) {
+        Integer doc = docByBoardId.remove(boardId);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        liveCount--;
+        for (FieldIndex field : fields) {
+            field.remove(doc);
+        }
+    }
+
+    int size() {
+        return liveCount;
+    }
+
+    /*
+     * 모든 검색어가 (지정한 필드 중 하나에) 포함된 문서만, 필드별 가중치를 곱한 BM25 점수 합으로 정렬
+     * 후보는 posting 이 가장 적은 검색어의 문서로 정하고, 점수 배열도 후보 수만큼만 만든다. (검색마다 전체 문서 수만큼 할당하지 않도록)
+     * */
+    SearchHits search(List<Token> query, int[] fieldIds, double[] weights) {
+        Map<String, Token> terms = new LinkedHashMap<>();
+        for (Token token : query) {
+            terms.putIfAbsent(token.getTerm(), token);
+        }
+        if (terms.isEmpty() || liveCount == 0) {
+            return EMPTY;
+        }
+
+        List<TermPostings> termPostings = new ArrayList<>(terms.size());
+        for (Token token : terms.values()) {
+            TermPostings postings = new TermPostings(fieldIds.length);
+            for (int f = 0; f < fieldIds.length; f++) {
+                postings.fields[f] = fields[fieldIds[f]].lookup(token);
+                for (Postings fieldPostings : postings.fields[f]) {
+                    postings.size += fieldPostings.size;
+                    postings.live += fieldPostings.live;
+                }
+            }
+            if (postings.live == 0) {
+                return EMPTY;
+            }
+            termPostings.add(postings);
+        }
+
+        int[] candidates = candidates(Collections.min(termPostings, Comparator.comparingLong(t -> t.live)));
+        double[] scores = new double[candidates.length];
+        int[] matched = new int[candidates.length];
+        int[] lastTerm = new int[candidates.length];
+        Arrays.fill(lastTerm, -1);
+
+        for (int termIndex = 0; termIndex < termPostings.size(); termIndex++) {
+            TermPostings postings = termPostings.get(termIndex);
+            for (int f = 0; f < fieldIds.length; f++) {
+                FieldIndex field = fields[fieldIds[f]];
+                long df = 0;
+                for (Postings fieldPostings : postings.fields[f]) {
+                    df += fieldPostings.live;
+                }
+                if (df == 0) {
+                    continue;
+                }
+                df = Math.min(df, liveCount);
+                double idf = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+                double avgLength = Math.max(field.totalLength / (double) liveCount, 1);
+
+                for (Postings fieldPostings : postings.fields[f]) {
+                    for (int i = 0; i < fieldPostings.size; i++) {
+                        int candidate = Arrays.binarySearch(candidates, fieldPostings.docs[i]);
+                        if (candidate < 0) {
+                            continue;
+                        }
+                        int doc = candidates[candidate];
+                        int tf = fieldPostings.freqs[i];
+                        double norm = K1 * (1 - B + B * field.lengths[doc] / avgLength);
+                        scores[candidate] += weights[f] * idf * tf * (K1 + 1) / (tf + norm);
+                        if (lastTerm[candidate] != termIndex) {
+                            lastTerm[candidate] = termIndex;
+                            matched[candidate]++;
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Integer> hits = new ArrayList<>();
+        for (int candidate = 0; candidate < candidates.length; candidate++) {
+            if (matched[candidate] == termPostings.size()) {
+                hits.add(candidate);
+            }
+        }
+        hits.sort((a, b) -> {
+            int compare = Double.compare(scores[b], scores[a]);
+            return compare != 0 ? compare : Long.compare(boardIds[candidates[b]], boardIds[candidates[a]]);
+        });
+
+        long[] hitIds = new long[hits.size()];
+        double[] hitScores = new double[hits.size()];
+        for (int i = 0; i < hits.size(); i++) {
+            hitIds[i] = boardIds[candidates[hits.get(i)]];
+            hitScores[i] = scores[hits.get(i)];
+        }
+        return new SearchHits(hitIds, hitScores);
+    }
+
+    // 삭제되지 않은 문서 번호 (정렬, 중복 제거)
+    private int[] candidates(TermPostings postings) {
+        int[] docs = new int[(int) postings.size];
+        int count = 0;
+        for (Collection<Postings> fieldPostings : postings.fields) {
+            for (Postings list : fieldPostings) {
+                for (int i = 0; i < list.size; i++) {
+                    if (!deleted.get(list.docs[i])) {
+                        docs[count++] = list.docs[i];
+                    }
+                }
+            }
+        }
+        Arrays.sort(docs, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || docs[unique - 1] != docs[i]) {
+                docs[unique++] = docs[i];
+            }
+        }
+        return Arrays.copyOf(docs, unique);
+    }
+
+    // 검색어 하나의 필드별 posting list
+    private static class TermPostings {
+        private final Collection<Postings>[] fields;
+        // 삭제된 문서 포함 (후보 배열 크기)
+        private long size;
+        // 삭제되지 않은 문서만
+        private long live;
+
+        @SuppressWarnings("unchecked")
+        TermPostings(int fieldCount) {
+            this.fields = new Collection[fieldCount];
+        }
+    }
+
+    private static class FieldIndex {
+        private final TreeMap<String, Postings> terms = new TreeMap<>();
+        private int[] lengths = new int[1024];
+        // 문서가 들어간 posting list (삭제 시 live 를 줄이기 위해, 삭제 후에는 null)
+        private Postings[][] postingsByDoc = new Postings[1024][];
+        private long totalLength;
+
+        void add(int doc, List<Token> tokens) {
+            if (doc >= lengths.length) {
+                lengths = Arrays.copyOf(lengths, Math.max(lengths.length * 2, doc + 1));
+                postingsByDoc = Arrays.copyOf(postingsByDoc, lengths.length);
+            }
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (Token token : tokens) {
+                frequencies.merge(token.getTerm(), 1, Integer::sum);
+            }
+            Postings[] docPostings = new Postings[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                Postings postings = terms.computeIfAbsent(entry.getKey(), k -> new Postings());
+                postings.add(doc, entry.getValue());
+                docPostings[i++] = postings;
+            }
+            postingsByDoc[doc] = docPostings;
+            lengths[doc] = tokens.size();
+            totalLength += tokens.size();
+        }
+
+        void remove(int doc) {
+            totalLength -= lengths[doc];
+            for (Postings postings : postingsByDoc[doc]) {
+                postings.live--;
+            }
+            postingsByDoc[doc] = null;
+        }
+
+        // 한글 bigram 은 정확히 일치, 그 외 단어와 한 글자 한글은 해당 문자열로 시작하는 모든 term
+        Collection<Postings> lookup(Token token) {
+            if (token.isHangul() && token.getTerm().length() > 1) {
+                Postings postings = terms.get(token.getTerm());
+                return postings == null ? Collections.emptyList() : Collections.singletonList(postings);
+            }
+            return terms.subMap(token.getTerm(), true, token.getTerm() + Character.MAX_VALUE, true).values();
+        }
+    }
+
+    private static class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        private int live;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                int capacity = size + (size >> 1) + 1;
+                docs = Arrays.copyOf(docs, capacity);
+                freqs = Arrays.copyOf(freqs, capacity);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.backend.board.search;
+
+/*
+ * 검색 결과 (점수 내림차순, 같은 점수면 boardId 내림차순)
+ * generation 은 검색한 시점의 색인 세대 (BoardSearchIndex 에서 설정, cursor 다음 페이지를 같은 결과로 이어가기 위해 사용)
+ * */
+public class SearchHits {
+
+    private final long[] boardIds;
+    private final double[] scores;
+    private final String generation;
+
+    SearchHits(long[] boardIds, double[] scores) {
+        this(boardIds, scores, null);
+    }
+
+    private SearchHits(long[] boardIds, double[] scores, String generation) {
+        this.boardIds = boardIds;
+        this.scores = scores;
+        this.generation = generation;
+    }
+
+    SearchHits withGeneration(String generation) {
+        return new SearchHits(boardIds, scores, generation);
+    }
+
+    public String getGeneration() {
+        return generation;
+    }
+
+    public int size() {
+        return boardIds.length;
+    }
+
+    public long boardId(int index) {
+        return boardIds[index];
+    }
+
+    public double score(int index) {
+        return scores[index];
+    }
+
+    // 정렬 순서에서 (score, boardId) 다음에 오는 첫 위치
+    public int indexAfter(double score, long boardId) {
+        int low = 0;
+        int high = boardIds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            boolean after = scores[mid] < score || (scores[mid] == score && boardIds[mid] < boardId);
+            if (after) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.backend.board.search;
+
+import com.example.backend.board.dto.condition.BoardSearchCondition;
+import com.example.backend.board.dto.response.PageBoardListResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.thymeleaf.util.StringUtils.isEmpty;
+
+/*
+ * 검색어 목록 조회 결과 캐시 (서버별 메모리)
+ * 키는 정규화한 (검색어, 검색 대상, 필터, 정렬, 페이지 또는 cursor) 이다.
+ * FrequencySketch 로 최근 빈도를 세서 두 번 이상 들어온 검색만 캐시에 넣는다. (한 번 쓰고 마는 검색이 자주 쓰는 검색을 밀어내지 않도록)
+ * 같은 sketch 의 검색어 빈도로 인기 검색어를 뽑는다.
+ * 게시글 작성/수정/삭제가 검색 색인에 반영될 때(BoardSearchIndexSynchronizer) 전체를 비운다. 참여자 수, 조회수는 TTL 만큼 늦게 반영된다.
+ * */
+@Component
+public class SearchResultCache {
+
+    private static final String KEYWORD_PREFIX = "k:";
+    private static final String QUERY_PREFIX = "q:";
+
+    private final Cache<String, PageBoardListResponseDto> cache;
+    private final FrequencySketch sketch;
+    private final int admissionFrequency;
+    private final int popularCapacity;
+    // 인기 검색어 후보 (popularCapacity 개까지, 빈도가 가장 낮은 후보부터 교체)
+    private final Set<String> popularCandidates = new HashSet<>();
+    // 조회 도중 무효화된 결과를 캐시에 넣지 않도록
+    private final AtomicLong generation = new AtomicLong();
+
+    public SearchResultCache(
+            @Value("${board.search-cache.maximum-size:1000}") int maximumSize,
+            @Value("${board.search-cache.expire-seconds:30}") long expireSeconds,
+            @Value("${board.search-cache.admission-frequency:2}") int admissionFrequency,
+            @Value("${board.search-cache.popular-capacity:100}") int popularCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        // 결과 키와 검색어를 같이 세므로 캐시 크기보다 넉넉하게
+        this.sketch = new FrequencySketch(Math.max(maximumSize, popularCapacity) * 8);
+        this.admissionFrequency = admissionFrequency;
+        this.popularCapacity = popularCapacity;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "board.search");
+    }
+
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        return Normalizer.normalize(keyword, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    // 검색 대상이 없으면 검색어를 쓰지 않는 목록이므로 제외
+    public boolean isCacheable(BoardSearchCondition searchCondition) {
+        return searchCondition.getSub() != null && !isEmpty(searchCondition.getKeyword());
+    }
+
+    public PageBoardListResponseDto get(BoardSearchCondition searchCondition, Pageable pageable, String cursor, Supplier<PageBoardListResponseDto> loader) {
+        recordKeyword(searchCondition.getKeyword());
+
+        String key = key(searchCondition, pageable, cursor);
+        PageBoardListResponseDto cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadedGeneration = generation.get();
+        int frequency = sketch.increment(QUERY_PREFIX + key);
+        PageBoardListResponseDto responseDto = loader.get();
+        if (frequency >= admissionFrequency && loadedGeneration == generation.get()) {
+            cache.put(key, responseDto);
+        }
+        return responseDto;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    // 최근 빈도 순 인기 검색어
+    public List<String> popularKeywords(int limit) {
+        List<String> candidates;
+        synchronized (popularCandidates) {
+            candidates = new ArrayList<>(popularCandidates);
+        }
+        List<long[]> ranked = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            int frequency = sketch.frequency(KEYWORD_PREFIX + candidates.get(i));
+            if (frequency > 0) {
+                ranked.add(new long[]{frequency, i});
+            }
+        }
+        ranked.sort((a, b) -> Long.compare(b[0], a[0]));
+
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < ranked.size() && i < limit; i++) {
+            result.add(candidates.get((int) ranked.get(i)[1]));
+        }
+        return result;
+    }
+
+    private void recordKeyword(String keyword) {
+        int frequency = sketch.increment(KEYWORD_PREFIX + keyword);
+        synchronized (popularCandidates) {
+            if (popularCandidates.contains(keyword)) {
+                return;
+            }
+            if (popularCandidates.size() < popularCapacity) {
+                popularCandidates.add(keyword);
+                return;
+            }
+            String weakest = null;
+            int weakestFrequency = Integer.MAX_VALUE;
+            for (String candidate : popularCandidates) {
+                int candidateFrequency = sketch.frequency(KEYWORD_PREFIX + candidate);
+                if (candidateFrequency < weakestFrequency) {
+                    weakest = candidate;
+                    weakestFrequency = candidateFrequency;
+                }
+            }
+            if (weakest != null && frequency > weakestFrequency) {
+                popularCandidates.remove(weakest);
+                popularCandidates.add(keyword);
+            }
+        }
+    }
+
+    private static String key(BoardSearchCondition searchCondition, Pageable pageable, String cursor) {
+        String page = cursor != null ? "cursor=" + cursor : "page=" + pageable.getPageNumber();
+        return searchCondition.getSub() + "|" + searchCondition.getFilter() + "|" + searchCondition.getUserSeq()
+                + "|" + (searchCondition.isViewsSort() ? "views" : "latest")
+                + "|" + page + "|" + pageable.getPageSize() + "|" + searchCondition.getKeyword();
+    }
+}
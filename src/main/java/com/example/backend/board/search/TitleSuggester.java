@@ -0,0 +1,175 @@
+package com.example.backend.board.search;
+
+import com.querydsl.core.Tuple;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.example.backend.board.domain.QBoard.board;
+
+/*
+ * 게시글 제목 검색어 자동완성
+ * 제목을 단어로 나눠서 trie 에 넣고, 단어가 들어간 게시글 수를 가중치로 사용한다.
+ * 변경은 BoardSearchIndexSynchronizer 가 반영하고, 기동 시와 주기적으로 BoardSearchRebuilder 가 DB 에서 다시 만든다.
+ * */
+@Component
+public class TitleSuggester {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 필드는 lock 으로 보호
+    private Suggestions suggestions = new Suggestions();
+    // 재생성 중에 변경된 게시글도 새 trie 에 반영되도록 보관
+    private Suggestions rebuilding;
+    private Set<Long> removedDuringRebuild;
+
+    // 마지막 단어를 완성한 검색어 목록 (앞 단어들은 그대로 붙임)
+    public List<String> suggest(String keyword, int limit) {
+        List<String> result = new ArrayList<>();
+        if (keyword == null) {
+            return result;
+        }
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty() || !Character.isLetterOrDigit(normalized.charAt(normalized.length() - 1))) {
+            return result;
+        }
+        int split = normalized.length();
+        while (split > 0 && Character.isLetterOrDigit(normalized.charAt(split - 1))) {
+            split--;
+        }
+        String head = normalized.substring(0, split);
+
+        List<String> terms;
+        lock.readLock().lock();
+        try {
+            terms = suggestions.trie.top(normalized.substring(split), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (String term : terms) {
+            result.add(head + term);
+        }
+        return result;
+    }
+
+    public void index(Long boardId, String title) {
+        lock.writeLock().lock();
+        try {
+            suggestions.put(boardId, title);
+            if (rebuilding != null) {
+                rebuilding.put(boardId, title);
+                removedDuringRebuild.remove(boardId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long boardId) {
+        lock.writeLock().lock();
+        try {
+            suggestions.remove(boardId);
+            if (rebuilding != null) {
+                rebuilding.remove(boardId);
+                removedDuringRebuild.add(boardId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 재생성 시작, 이후 index / remove 는 새 trie 에도 반영
+    void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = new Suggestions();
+            removedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // rows : board.id, board.title (내용은 사용하지 않음)
+    void addRebuilt(List<Tuple> rows) {
+        lock.writeLock().lock();
+        try {
+            for (Tuple row : rows) {
+                Long boardId = row.get(board.id);
+                if (!rebuilding.contains(boardId) && !removedDuringRebuild.contains(boardId)) {
+                    rebuilding.put(boardId, row.get(board.title));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 끝까지 읽었으면 새 trie 로 교체, 실패했으면 기존 trie 유지
+    void finishRebuild(boolean completed) {
+        lock.writeLock().lock();
+        try {
+            if (completed) {
+                suggestions = rebuilding;
+            }
+            rebuilding = null;
+            removedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    // 제목의 단어 (중복 제거)
+    private static String[] terms(String title) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (title != null) {
+            for (String term : normalize(title).split("[^\\p{L}\\p{N}]+")) {
+                if (!term.isEmpty()) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms.toArray(new String[0]);
+    }
+
+    // 게시글별로 넣은 단어를 기억해서 수정/삭제 시 가중치를 되돌린다
+    private static class Suggestions {
+        private final TitleTrie trie = new TitleTrie();
+        private final Map<Long, String[]> termsByBoard = new HashMap<>();
+
+        boolean contains(Long boardId) {
+            return termsByBoard.containsKey(boardId);
+        }
+
+        void put(Long boardId, String title) {
+            remove(boardId);
+            String[] terms = terms(title);
+            for (String term : terms) {
+                trie.add(term, 1);
+            }
+            termsByBoard.put(boardId, terms);
+        }
+
+        void remove(Long boardId) {
+            String[] terms = termsByBoard.remove(boardId);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                trie.add(term, -1);
+            }
+        }
+    }
+}
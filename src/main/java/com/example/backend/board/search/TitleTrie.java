@@ -0,0 +1,154 @@
+package com.example.backend.board.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/*
+ * 게시글 제목 단어 자동완성용 trie (동기화는 TitleSuggester 에서 처리)
+ * 자식 노드는 정렬된 char[] / Node[] 배열로 보관하고, 노드마다 하위 단어 중 최대 가중치를 기록해서
+ * 가중치가 높은 단어부터 찾아 내려가다가 k 개를 채우면 바로 멈춘다.
+ * */
+class TitleTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node();
+
+    // 단어의 가중치를 delta 만큼 변경 (0 이하가 되면 단어 제거)
+    void add(String term, int delta) {
+        Node[] path = new Node[term.length() + 1];
+        path[0] = root;
+        Node node = root;
+        for (int i = 0; i < term.length(); i++) {
+            Node child = node.child(term.charAt(i));
+            if (child == null) {
+                if (delta <= 0) {
+                    return;
+                }
+                child = node.addChild(term.charAt(i));
+            }
+            node = child;
+            path[i + 1] = node;
+        }
+        node.weight = Math.max(node.weight + delta, 0);
+
+        // 아래에서부터 최대 가중치를 다시 계산하고, 빈 노드는 제거
+        for (int i = term.length(); i >= 0; i--) {
+            Node current = path[i];
+            if (i > 0 && current.weight == 0 && current.size == 0) {
+                path[i - 1].removeChild(term.charAt(i - 1));
+            } else {
+                current.updateMaxWeight();
+            }
+        }
+    }
+
+    List<String> top(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        List<String> result = new ArrayList<>();
+        if (node == null || limit <= 0) {
+            return result;
+        }
+
+        // 하위 최대 가중치가 큰 노드부터 탐색 (완성된 단어도 자기 가중치로 같은 큐에 넣음)
+        PriorityQueue<Candidate> queue = new PriorityQueue<>();
+        queue.add(new Candidate(node, prefix, node.maxWeight, false));
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.complete) {
+                result.add(candidate.term);
+                continue;
+            }
+            Node current = candidate.node;
+            if (current.weight > 0) {
+                queue.add(new Candidate(current, candidate.term, current.weight, true));
+            }
+            for (int i = 0; i < current.size; i++) {
+                Node child = current.children[i];
+                queue.add(new Candidate(child, candidate.term + current.keys[i], child.maxWeight, false));
+            }
+        }
+        return result;
+    }
+
+    private static class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int size;
+        private int weight;
+        private int maxWeight;
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, 0, size, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild(char key) {
+            int index = -(Arrays.binarySearch(keys, 0, size, key) + 1);
+            if (size == keys.length) {
+                int capacity = size == 0 ? 1 : size * 2;
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, index, keys, index + 1, size - index);
+            System.arraycopy(children, index, children, index + 1, size - index);
+            Node child = new Node();
+            keys[index] = key;
+            children[index] = child;
+            size++;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, 0, size, key);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(children, index + 1, children, index, size - index - 1);
+            size--;
+            children[size] = null;
+            updateMaxWeight();
+        }
+
+        void updateMaxWeight() {
+            int max = weight;
+            for (int i = 0; i < size; i++) {
+                max = Math.max(max, children[i].maxWeight);
+            }
+            maxWeight = max;
+        }
+    }
+
+    private static class Candidate implements Comparable<Candidate> {
+        private final Node node;
+        private final String term;
+        private final int priority;
+        private final boolean complete;
+
+        Candidate(Node node, String term, int priority, boolean complete) {
+            this.node = node;
+            this.term = term;
+            this.priority = priority;
+            this.complete = complete;
+        }
+
+        // 가중치 내림차순, 같으면 완성된 단어 먼저, 그 다음 사전 순
+        @Override
+        public int compareTo(Candidate other) {
+            if (priority != other.priority) {
+                return Integer.compare(other.priority, priority);
+            }
+            if (complete != other.complete) {
+                return complete ? -1 : 1;
+            }
+            return term.compareTo(other.term);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.backend.board.service;
+
+import com.example.backend.board.domain.Board;
+import com.example.backend.board.dto.response.BoardResponseDto;
+import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 게시글 상세 조회 묶음 처리 (single-flight)
+ * 같은 게시글을 동시에 조회하면 먼저 들어온 요청 하나만 DB 에서 게시글 / BoardTodo / 작성자를 읽고,
+ * 나머지 요청은 그 결과를 기다렸다가 같이 쓴다. 조회가 끝나면 바로 제거하므로 캐시는 아니다.
+ * 결과는 사용자와 상관없는 부분만 담고 (participating = false), 참여 여부는 요청마다 따로 확인한다.
+ * board.detail.load{result=loaded|coalesced} 로 실제 조회 수와 묶인 요청 수를 확인할 수 있다.
+ * */
+@Component
+public class BoardDetailLoader {
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter loadedCounter;
+    private final Counter coalescedCounter;
+
+    private final Map<Long, CompletableFuture<BoardResponseDto>> inFlight = new ConcurrentHashMap<>();
+
+    public BoardDetailLoader(
+            BoardRepository boardRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.loadedCounter = meterRegistry.counter("board.detail.load", "result", "loaded");
+        this.coalescedCounter = meterRegistry.counter("board.detail.load", "result", "coalesced");
+    }
+
+    // 반환값은 여러 요청이 같이 쓰므로 수정하지 말고 BoardResponseDto.withParticipating 으로 복사해서 사용
+    public BoardResponseDto load(Long boardId) {
+        CompletableFuture<BoardResponseDto> future = new CompletableFuture<>();
+        CompletableFuture<BoardResponseDto> running = inFlight.putIfAbsent(boardId, future);
+        if (running != null) {
+            coalescedCounter.increment();
+            return await(running);
+        }
+
+        loadedCounter.increment();
+        try {
+            future.complete(transactionTemplate.execute(status -> fetch(boardId)));
+        } catch (RuntimeException | Error e) {
+            // 기다리는 요청이 멈추지 않도록 어떤 실패든 전달
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(boardId, future);
+        }
+        return await(future);
+    }
+
+    private BoardResponseDto fetch(Long boardId) {
+        Board board = boardRepository.findById(boardId).orElseThrow(
+                () -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
+        // 탈퇴한 회원의 게시글은 실제로 삭제되기 전에도 없는 게시글로 처리
+        if (board.getUser().isDeleted()) {
+            throw new CustomException(ErrorCode.BOARD_NOT_FOUND);
+        }
+        return new BoardResponseDto(board, false, !board.isChallengeOpen(LocalDate.now()));
+    }
+
+    // 먼저 조회한 요청의 예외(BOARD_NOT_FOUND 등)는 기다린 요청에도 그대로 전달
+    private static BoardResponseDto await(CompletableFuture<BoardResponseDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.backend.board.service;
+
+import com.example.backend.board.dto.FilterEnum;
+import com.example.backend.board.dto.condition.BoardSearchCondition;
+import com.example.backend.board.dto.response.PageBoardListResponseDto;
+import com.example.backend.board.event.BoardChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static org.thymeleaf.util.StringUtils.isEmpty;
+
+/*
+ * 검색어 없는 게시글 목록(전체 / challenge / daily) 앞쪽 페이지의 Redis 캐시
+ * 키에 세대(generation) 번호를 넣고, 게시글이 변경되면 커밋 후에 세대 번호를 올려서 이전 페이지를 한 번에 무효화한다.
+ * 이전 세대 키는 TTL 로 사라진다. my 필터는 사용자별 목록이라 캐시하지 않는다.
+ * 조회수는 게시글 변경 이벤트 없이 바뀌므로 조회수/조회수 순서는 TTL 만큼 늦게 반영된다.
+ * 참여자 수도 같은 방식으로 TTL 만큼 늦게 반영한다. (신청이 몰릴 때마다 모든 페이지가 무효화되지 않도록)
+ * 값은 "<ETag><JSON>" 형태로, ETag 는 저장한 JSON 으로 만들어서 같이 저장한다. (ETag 만 필요하면 앞부분만 읽음)
+ * */
+@Component
+@Slf4j
+public class BoardFeedCache {
+
+    private static final String GENERATION_KEY = "board_feed:generation";
+    private static final String PAGE_KEY_PREFIX = "board_feed:page:";
+    // 큰따옴표 포함 strong ETag ("<md5 32자>")
+    private static final int TAG_LENGTH = 34;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int maxPages;
+    private final Duration ttl;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public BoardFeedCache(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${board.feed-cache.max-pages:3}") int maxPages,
+            @Value("${board.feed-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxPages = maxPages;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.hitCounter = meterRegistry.counter("board.feed.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("board.feed.cache", "result", "miss");
+    }
+
+    // cursor 가 빈 값이면 cursor 방식의 첫 페이지, null 이면 page 방식
+    public boolean isCacheable(BoardSearchCondition searchCondition, Pageable pageable, String cursor) {
+        if (!isEmpty(searchCondition.getKeyword()) || Objects.equals(searchCondition.getFilter(), FilterEnum.my)) {
+            return false;
+        }
+        if (cursor != null) {
+            return cursor.isEmpty();
+        }
+        return pageable.getPageNumber() < maxPages;
+    }
+
+    public PageBoardListResponseDto get(BoardSearchCondition searchCondition, Pageable pageable, String cursor, Supplier<PageBoardListResponseDto> loader) {
+        String key;
+        try {
+            // 조회 전에 읽은 세대로 저장해야, 조회 도중 무효화된 결과가 새 세대에 남지 않는다
+            key = pageKey(currentGeneration(), searchCondition, pageable, cursor);
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                hitCounter.increment();
+                PageBoardListResponseDto responseDto = objectMapper.readValue(cached.substring(TAG_LENGTH), PageBoardListResponseDto.class);
+                responseDto.setCachedETag(cached.substring(0, TAG_LENGTH));
+                return responseDto;
+            }
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("failed to read board feed cache", e);
+            return loader.get();
+        }
+
+        missCounter.increment();
+        PageBoardListResponseDto responseDto = loader.get();
+        try {
+            String json = objectMapper.writeValueAsString(responseDto);
+            String tag = tagOf(json);
+            stringRedisTemplate.opsForValue().set(key, tag + json, ttl);
+            responseDto.setCachedETag(tag);
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("failed to write board feed cache", e);
+        }
+        return responseDto;
+    }
+
+    /*
+     * 캐시된 페이지의 ETag (DB 조회 없이 저장된 값의 앞부분만 읽음)
+     * 캐시에 없으면 (세대가 바뀌었거나 TTL 이 지남) null, 이때는 조회해서 다시 저장한 페이지의 ETag 를 응답에 사용한다.
+     * ETag 가 캐시 항목의 내용으로 정해지므로 304 는 캐시 항목이 바뀌지 않은 동안에만 나간다.
+     * Redis 를 읽지 못해도 null
+     * */
+    public String version(BoardSearchCondition searchCondition, Pageable pageable, String cursor) {
+        try {
+            String tag = stringRedisTemplate.opsForValue().get(pageKey(currentGeneration(), searchCondition, pageable, cursor), 0, TAG_LENGTH - 1);
+            return tag == null || tag.length() != TAG_LENGTH ? null : tag;
+        } catch (RuntimeException e) {
+            log.warn("failed to read board feed cache tag", e);
+            return null;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.PARTICIPANTS_CHANGED) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().increment(GENERATION_KEY);
+        } catch (RuntimeException e) {
+            // 무효화하지 못한 페이지는 TTL 이 지나면 갱신된다
+            log.warn("failed to invalidate board feed cache", e);
+        }
+    }
+
+    private static String tagOf(String json) {
+        return "\"" + DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private String currentGeneration() {
+        String generation = stringRedisTemplate.opsForValue().get(GENERATION_KEY);
+        return generation == null ? "0" : generation;
+    }
+
+    private static String pageKey(String generation, BoardSearchCondition searchCondition, Pageable pageable, String cursor) {
+        FilterEnum filter = searchCondition.getFilter();
+        String page = cursor != null ? "cursor" : String.valueOf(pageable.getPageNumber());
+        return PAGE_KEY_PREFIX + generation + ":" + (filter == null ? "all" : filter.name())
+                + ":" + (searchCondition.isViewsSort() ? "views" : "latest")
+                + ":" + page + ":" + pageable.getPageSize();
+    }
+}
@@ -4,14 +4,24 @@ import com.example.backend.board.domain.Board;
 import com.example.backend.board.domain.BoardTodo;
 import com.example.backend.board.domain.Category;
 import com.example.backend.board.dto.FilterEnum;
+import com.example.backend.board.dto.SortEnum;
 import com.example.backend.board.dto.SubEnum;
+import com.example.backend.board.dto.condition.BoardCursor;
 import com.example.backend.board.dto.condition.BoardSearchCondition;
 import com.example.backend.board.dto.request.BoardTodoRequestDto;
 import com.example.backend.board.dto.request.RequestDto;
 import com.example.backend.board.dto.response.BoardResponseDto;
+import com.example.backend.board.dto.response.PageBoardListResponseDto;
 import com.example.backend.board.dto.response.PageBoardResponseDto;
+import com.example.backend.board.event.BoardChangedEvent;
+import com.example.backend.board.search.SearchResultCache;
+import com.example.backend.board.search.TitleSuggester;
+import com.example.backend.board.view.BoardViewCounter;
+import com.example.backend.board.repository.BoardCursorSlice;
 import com.example.backend.board.repository.BoardRepository;
 import com.example.backend.board.repository.BoardTodoRepository;
+import com.example.backend.board.repository.BoardVersion;
+import com.example.backend.board.repository.BoardViewerSketchRepository;
 import com.example.backend.chat.domain.ChatRoom;
 import com.example.backend.chat.domain.Participant;
 import com.example.backend.chat.redis.RedisRepository;
@@ -23,37 +33,62 @@ import com.example.backend.msg.MsgEnum;
 import com.example.backend.s3.AwsS3Service;
 import com.example.backend.todo.domain.Todo;
 import com.example.backend.todo.repository.TodoRepository;
+import com.example.backend.user.common.CurrentUserResolver;
 import com.example.backend.user.domain.User;
 import com.example.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.text.DateFormat;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.thymeleaf.util.StringUtils.isEmpty;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BoardService {
+    private static final int MAX_SUGGESTION_SIZE = 20;
+
     private final BoardRepository boardRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final AwsS3Service awsS3Service;
     private final TodoRepository todoRepository;
     private final BoardTodoRepository boardTodoRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ParticipantRepository participantRepository;
     private final RedisRepository redisRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardFeedCache boardFeedCache;
+    private final UserRepository userRepository;
+    private final TitleSuggester titleSuggester;
+    private final SearchResultCache searchResultCache;
+    private final BoardViewCounter boardViewCounter;
+    private final BoardDetailLoader boardDetailLoader;
+    private final ChallengeProgressService challengeProgressService;
+    private final BoardViewerSketchRepository boardViewerSketchRepository;
 
     public String saveImage(MultipartFile file){
         if (file.isEmpty()){
@@ -76,6 +111,7 @@ public class BoardService {
             participantRepository.save(new Participant(user, chatRoom));
             redisRepository.subscribe(chatRoom.getRoomId());
         }
+        eventPublisher.publishEvent(BoardChangedEvent.saved(saveBoard.getId(), saveBoard.getTitle(), saveBoard.getContent()));
     }
 
     @Transactional
@@ -137,27 +173,77 @@ public class BoardService {
         );
     }
 
-    @Transactional
-    public PageBoardResponseDto getBoardListV2(FilterEnum filter, String keyword, Pageable pageable, String email, SubEnum sub){
+    // 목록은 엔티티 없이 컬럼만 조회하므로 트랜잭션 없이 실행 (캐시에서 응답할 때 DB 커넥션을 잡지 않도록)
+    public PageBoardListResponseDto getBoardListV2(FilterEnum filter, String keyword, Pageable pageable, String email, SubEnum sub, SortEnum sort, String cursor){
 
-        BoardSearchCondition searchCondition = new BoardSearchCondition(sub, filter, keyword, email);
+        Long userSeq = Objects.equals(filter, FilterEnum.my) ? getUser(email).getUserSeq() : null;
+        // 대소문자, 공백만 다른 검색어는 같은 검색으로 처리 (검색 결과 캐시 키와 동일하게)
+        BoardSearchCondition searchCondition = new BoardSearchCondition(sub, filter, SearchResultCache.normalize(keyword), userSeq, sort);
 
-        Slice<Board> result = boardRepository.search(pageable, searchCondition);
+        if (boardFeedCache.isCacheable(searchCondition, pageable, cursor)) {
+            return boardFeedCache.get(searchCondition, pageable, cursor, () -> searchBoardList(searchCondition, pageable, cursor));
+        }
+        if (searchResultCache.isCacheable(searchCondition)) {
+            return searchResultCache.get(searchCondition, pageable, cursor, () -> searchBoardList(searchCondition, pageable, cursor));
+        }
+        return searchBoardList(searchCondition, pageable, cursor);
+    }
 
-        return new PageBoardResponseDto(
-                BoardResponseDto.getDtoList(result.getContent()),
-                result
-        );
+    private PageBoardListResponseDto searchBoardList(BoardSearchCondition searchCondition, Pageable pageable, String cursor) {
+        //cursor 파라미터가 있으면 (빈 값이면 첫 페이지) offset 대신 cursor 방식으로 조회
+        if (cursor != null) {
+            BoardCursorSlice cursorSlice = boardRepository.searchByCursor(
+                    pageable.getPageSize(), BoardCursor.decode(cursor), searchCondition
+            );
+            return new PageBoardListResponseDto(cursorSlice);
+        }
+
+        return new PageBoardListResponseDto(boardRepository.search(pageable, searchCondition));
+    }
+
+    // 최근 많이 검색된 검색어 (서버별 집계)
+    public List<String> getPopularKeywords(int size) {
+        return searchResultCache.popularKeywords(Math.min(Math.max(size, 0), MAX_SUGGESTION_SIZE));
+    }
+
+    // 목록 응답 ETag, 목록 캐시에 저장된 페이지의 ETag (DB 조회 없음, 조회수 등은 캐시 TTL 만큼 늦게 반영)
+    // 검색어가 있거나 my 필터, cursor 두 번째 페이지 이후, 아직 캐시되지 않은 페이지면 null
+    public String getBoardListETag(FilterEnum filter, String keyword, Pageable pageable, SubEnum sub, SortEnum sort, String cursor) {
+        BoardSearchCondition searchCondition = new BoardSearchCondition(sub, filter, SearchResultCache.normalize(keyword), null, sort);
+        if (!boardFeedCache.isCacheable(searchCondition, pageable, cursor)) {
+            return null;
+        }
+        return boardFeedCache.version(searchCondition, pageable, cursor);
+    }
+
+    // 상세 응답 ETag, 게시글 버전 + 조회수 + 작성자 수정 시각(닉네임 / 프로필 이미지) + 조회한 사용자(신청 여부) + 오늘 날짜(신청 마감 여부)
+    public String getDetailBoardETag(Long id, String email) {
+        User user = getUser(email);
+        BoardVersion boardVersion = boardRepository.findVersion(id).orElseThrow(
+                () -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
+        return strongETag("board:" + id + ":" + boardVersion.getVersion() + ":" + boardVersion.getViewCount()
+                + ":" + boardVersion.getAuthorModifiedDate() + ":" + user.getUserSeq() + ":" + LocalDate.now());
+    }
+
+    // 304 로 응답한 상세 조회도 조회수에 반영
+    public void recordView(Long id, String email) {
+        boardViewCounter.record(id, getUser(email).getUserSeq());
+    }
+
+    // 제목 검색어 자동완성 (DB 조회 없음)
+    public List<String> getSuggestions(String keyword, int size) {
+        return titleSuggester.suggest(keyword, Math.min(Math.max(size, 0), MAX_SUGGESTION_SIZE));
     }
 
     // 게시물 상세조회
-    @Transactional
+    // 게시글은 동시에 들어온 요청끼리 한 번만 조회하고 참여 여부만 요청마다 확인
+    // (트랜잭션 없이 실행, 기다리는 요청이 DB 커넥션을 잡고 있지 않도록)
     public BoardResponseDto getDetailBoard(Long id, String email) throws ParseException {
         User user = getUser(email);
-        Board board = boardRepository.findById(id).orElseThrow(
-                () -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
+        BoardResponseDto shared = boardDetailLoader.load(id);
+        boardViewCounter.record(id, user.getUserSeq());
 
-        return new BoardResponseDto(board, todoRepository.existsByBoardAndUser(board, user), !withTodoExpiration(board));
+        return shared.withParticipating(todoRepository.existsByBoardIdAndUser(id, user));
     }
 
     @Transactional
@@ -175,7 +261,9 @@ public class BoardService {
         if(board.getImageUrl().split(MsgEnum.IMAGE_DOMAIN.getMsg()).length >= 2 ){
             awsS3Service.deleteImage(board.getImageUrl().split(MsgEnum.IMAGE_DOMAIN.getMsg())[1]);
         }
+        boardViewerSketchRepository.deleteByBoardId(id);
         boardRepository.deleteById(id);
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(id));
     }
 
     @Transactional
@@ -209,10 +297,12 @@ public class BoardService {
         }
 
         board.update(requestDto.getBoard(), user);
-
+        boardRepository.increaseVersion(board.getId());
+        eventPublisher.publishEvent(BoardChangedEvent.updated(board.getId(), board.getTitle(), board.getContent()));
     }
 
-    @Transactional
+    // user row lock 을 기다린 뒤 다른 트랜잭션이 커밋한 신청 내역을 읽도록 READ_COMMITTED
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public void applyChallenge(Long boardId, String email) throws ParseException {
         User user = getUser(email);
         Board board = getBoard(boardId);
@@ -222,16 +312,26 @@ public class BoardService {
             throw new CustomException(ErrorCode.CHALLENGE_CANCEL_AUTHOR_NOT);
         }
 
+        //탈퇴한 회원의 게시글은 삭제 예정이므로 신청 불가능
+        if (board.getUser().isDeleted()) {
+            throw new CustomException(ErrorCode.BOARD_NOT_FOUND);
+        }
+
         //일상글은 참여 불가능
         if (!board.getCategory().equals(Category.CHALLENGE)){
             throw new CustomException(ErrorCode.DAILY_NOY_APPLY_CHALLENGE);
         }
         //첼린지가 이미 시작되었다면 신청불가
         //BoardTodo의 날짜를 전부 가져와서 오늘날짜가 더 크다면 신청 불가
-        if(!withTodoExpiration(board)){
+        if(!board.isChallengeOpen(LocalDate.now())){
             throw new CustomException(ErrorCode.CHALLENGE_CANCEL_APPLY_NOT);
         }
 
+        //이미 신청한 첼린지는 다시 신청 불가 (같은 사용자의 동시 신청은 user row lock 으로 순서대로 확인)
+        userRepository.findAllForUpdate(Collections.singletonList(user.getUserSeq()));
+        if (todoRepository.existsByBoardAndUser(board, user)){
+            throw new CustomException(ErrorCode.ALREADY_APPLY_CHALLENGE);
+        }
 
         //신청자 TODO 저장
         List<Todo> todoList = new ArrayList<>();
@@ -239,10 +339,71 @@ public class BoardService {
             todoList.add(new Todo(boardTodo, user, board));
         }
         todoRepository.saveAll(todoList);
-        board.addParticipatingCount();
+        boardRepository.increaseParticipatingCount(boardId, 1);
+        eventPublisher.publishEvent(BoardChangedEvent.participantsChanged(boardId, 1));
     }
 
-    @Transactional
+    /*
+     * 대기열에서 꺼낸 첼린지 신청을 한 번에 처리 (ChallengeAdmissionScheduler)
+     * 게시글/BoardTodo 는 한 번만 읽고, 신청자 Todo 를 모아서 저장한 뒤 참여자 수를 한 번에 올린다.
+     * 반환값 : userSeq → 실패 사유 (성공이면 null)
+     * 바로 신청한 요청과 같은 user row lock 을 userSeq 순서로 잡는다.
+     * */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public Map<Long, ErrorCode> applyChallengeBatch(Long boardId, List<Long> userSeqs) {
+        Map<Long, ErrorCode> results = new LinkedHashMap<>();
+        Board board = boardRepository.findById(boardId).orElse(null);
+        ErrorCode boardError = null;
+        if (board == null || board.getUser().isDeleted()) {
+            boardError = ErrorCode.BOARD_NOT_FOUND;
+        } else if (!board.getCategory().equals(Category.CHALLENGE)) {
+            boardError = ErrorCode.DAILY_NOY_APPLY_CHALLENGE;
+        } else if (!board.isChallengeOpen(LocalDate.now())) {
+            boardError = ErrorCode.CHALLENGE_CANCEL_APPLY_NOT;
+        }
+        if (boardError != null) {
+            for (Long userSeq : userSeqs) {
+                results.put(userSeq, boardError);
+            }
+            return results;
+        }
+
+        Map<Long, User> userMap = new HashMap<>();
+        List<User> lockedUsers = userRepository.findAllForUpdate(userSeqs);
+        Set<Long> applicants = new HashSet<>(todoRepository.findApplicantUserSeqs(board, userSeqs));
+        for (User user : lockedUsers) {
+            userMap.put(user.getUserSeq(), user);
+        }
+
+        List<Todo> todoList = new ArrayList<>();
+        long appliedCount = 0;
+        for (Long userSeq : userSeqs) {
+            User user = userMap.get(userSeq);
+            if (user == null || user.isDeleted()) {
+                results.put(userSeq, ErrorCode.USER_NOT_FOUND);
+            } else if (userSeq.equals(board.getUser().getUserSeq())) {
+                results.put(userSeq, ErrorCode.CHALLENGE_CANCEL_AUTHOR_NOT);
+            } else if (!applicants.add(userSeq)) {
+                results.put(userSeq, ErrorCode.ALREADY_APPLY_CHALLENGE);
+            } else {
+                for (BoardTodo boardTodo : board.getBoardTodo()) {
+                    todoList.add(new Todo(boardTodo, user, board));
+                }
+                appliedCount++;
+                results.put(userSeq, null);
+            }
+        }
+
+        todoRepository.saveAll(todoList);
+        if (appliedCount > 0) {
+            boardRepository.increaseParticipatingCount(boardId, appliedCount);
+            eventPublisher.publishEvent(BoardChangedEvent.participantsChanged(boardId, appliedCount));
+        }
+        return results;
+    }
+
+    // 신청과 같은 방식으로 user row lock
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public void cancelChallenge(Long boardId, String email) throws ParseException {
         User user = getUser(email);
         Board board = getBoard(boardId);
@@ -257,21 +418,34 @@ public class BoardService {
             throw new CustomException(ErrorCode.DAILY_NOY_APPLY_CHALLENGE);
         }
 
-        //신청 하지 않은 첼린지는 취소 불가능
+        //신청 하지 않은 첼린지는 취소 불가능 (동시 취소로 참여자 수가 두 번 줄지 않도록 user row lock)
+        userRepository.findAllForUpdate(Collections.singletonList(user.getUserSeq()));
         if (!todoRepository.existsByBoardAndUser(board, user)){
             throw new CustomException(ErrorCode.NOT_APPLY_CHALLENGE_NOT_CANCEL);
         }
 
         //첼린지가 이미 시작되었다면 취소 불가
         //BoardTodo의 날짜를 전부 가져와서 오늘날짜가 더 크다면 취소 불가
-        if(!withTodoExpiration(board)){
+        if(!board.isChallengeOpen(LocalDate.now())){
             throw new CustomException(ErrorCode.CHALLENGE_CANCEL_APPLY_NOT);
         }
 
         //사용자가 등록한 TODO 삭제
         List<Todo> todoList = todoRepository.findAllByBoardAndUser(board, user);
+        LocalDateTime joinedAt = null;
+        for (Todo todo : todoList) {
+            //완료했던 날짜는 진행 현황에서 제외
+            if (todo.isState()) {
+                challengeProgressService.changeDoneCount(boardId, todo.getTodoDate(), -1);
+            }
+            //신청할 때 한 번에 저장되므로 가장 이른 생성 시각을 신청 시각으로 사용
+            if (todo.getCreatedDate() != null && (joinedAt == null || todo.getCreatedDate().isBefore(joinedAt))) {
+                joinedAt = todo.getCreatedDate();
+            }
+        }
         todoRepository.deleteAll(todoList);
-        board.minusParticipatingCount();
+        boardRepository.decreaseParticipatingCount(boardId);
+        eventPublisher.publishEvent(BoardChangedEvent.participantCancelled(boardId, joinedAt));
     }
 
     @Transactional
@@ -291,18 +465,9 @@ public class BoardService {
             boardTodoList.add(new BoardTodo(todo, date, board));
         }
         boardTodoRepository.saveAll(boardTodoList);
-    }
-
-    private boolean withTodoExpiration(Board board) throws ParseException {
-        for (BoardTodo boardTodo : board.getBoardTodo()) {
-            String todayFormat = new SimpleDateFormat("yyyy-MM-dd").format(new Date(System.currentTimeMillis()));
-            DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-            Date today = new Date(dateFormat.parse(todayFormat).getTime());
-            if (boardTodo.getTodoDate().compareTo(today) < 0) {
-                return false;
-            }
-        }
-        return true;
+        board.updateChallengePeriod(boardTodoList.stream().map(BoardTodo::getTodoDate).collect(Collectors.toList()));
+        board.updateTodoDateCount(boardTodoList.size());
+        challengeProgressService.createDays(board.getId(), boardTodoList.stream().map(BoardTodo::getTodoDate).collect(Collectors.toList()));
     }
 
     private Board getBoard(Long id) {
@@ -312,8 +477,10 @@ public class BoardService {
     }
 
     private User getUser(String email) {
-        return userRepository.findByEmail(email).orElseThrow(
-                () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
+        return currentUserResolver.getUser(email);
+    }
+
+    private static String strongETag(String seed) {
+        return "\"" + DigestUtils.md5DigestAsHex(seed.getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 }
\ No newline at end of file
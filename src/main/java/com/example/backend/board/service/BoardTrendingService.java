@@ -0,0 +1,74 @@
+package com.example.backend.board.service;
+
+import com.example.backend.board.dto.response.BoardListResponseDto;
+import com.example.backend.board.event.BoardChangedEvent;
+import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.board.repository.BoardTrendingStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 인기 첼린지 (최근 신청 속도 순)
+ * 순위는 신청/취소 커밋 후에 BoardTrendingStore 에 반영하고,
+ * 조회할 때는 순위의 게시글 id 로만 DB 를 읽는다. (이미 시작된 첼린지는 제외)
+ * */
+@Service
+@Slf4j
+public class BoardTrendingService {
+
+    private final BoardTrendingStore boardTrendingStore;
+    private final BoardRepository boardRepository;
+    private final int maxSize;
+
+    public BoardTrendingService(
+            BoardTrendingStore boardTrendingStore,
+            BoardRepository boardRepository,
+            @Value("${board.trending.size:20}") int maxSize
+    ) {
+        this.boardTrendingStore = boardTrendingStore;
+        this.boardRepository = boardRepository;
+        this.maxSize = maxSize;
+    }
+
+    public List<BoardListResponseDto> getTrending(int size) {
+        int count = Math.min(Math.max(size, 0), maxSize);
+        if (count == 0) {
+            return new ArrayList<>();
+        }
+        List<Long> boardIds;
+        try {
+            // 시작된 첼린지가 빠질 수 있으므로 넉넉하게 가져옴
+            boardIds = boardTrendingStore.findTop(count * 2);
+        } catch (RuntimeException e) {
+            log.warn("failed to read trending challenges", e);
+            return new ArrayList<>();
+        }
+        List<BoardListResponseDto> result = boardRepository.findOpenChallengesByIds(boardIds);
+        return result.size() > count ? new ArrayList<>(result.subList(0, count)) : result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        try {
+            if (event.getType() == BoardChangedEvent.Type.PARTICIPANTS_CHANGED && event.getParticipantDelta() != 0) {
+                // 취소는 원래 신청 시각의 가중치만큼 빼서, 최근 신청이 있는 게시글의 점수가 과하게 줄지 않도록
+                long at = event.getJoinedAt() == null
+                        ? System.currentTimeMillis()
+                        : event.getJoinedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                boardTrendingStore.add(event.getBoardId(), event.getParticipantDelta(), at);
+            } else if (event.getType() == BoardChangedEvent.Type.DELETED) {
+                boardTrendingStore.remove(event.getBoardId());
+            }
+        } catch (RuntimeException e) {
+            // 순위는 다음 신청부터 다시 반영된다
+            log.warn("failed to update trending challenges of board {}", event.getBoardId(), e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.board.service;
+
+import com.example.backend.board.dto.response.ChallengeAdmissionResponseDto;
+import com.example.backend.board.repository.ChallengeAdmissionStore;
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.user.common.CurrentUserResolver;
+import com.example.backend.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.text.ParseException;
+
+/*
+ * 첼린지 신청 진입점
+ * 평소에는 BoardService.applyChallenge 로 바로 처리하고, 신청이 몰리는 게시글은 대기열에 넣어서
+ * ChallengeAdmissionScheduler 가 batch 로 처리하게 한다. (대기열에 넣은 경우 결과는 getStatus 로 확인)
+ * */
+@Service
+@RequiredArgsConstructor
+public class ChallengeAdmissionService {
+
+    private final BoardService boardService;
+    private final ChallengeAdmissionStore challengeAdmissionStore;
+    private final CurrentUserResolver currentUserResolver;
+
+    // 대기열에 넣었으면 true, 바로 처리했으면 false
+    public boolean apply(Long boardId, String email) throws ParseException {
+        User user = currentUserResolver.getUser(email);
+        switch (challengeAdmissionStore.tryEnqueue(boardId, user.getUserSeq())) {
+            case DIRECT:
+                boardService.applyChallenge(boardId, email);
+                return false;
+            case FULL:
+                throw new CustomException(ErrorCode.CHALLENGE_QUEUE_FULL);
+            default:
+                return true;
+        }
+    }
+
+    public ChallengeAdmissionResponseDto getStatus(Long boardId, String email) {
+        User user = currentUserResolver.getUser(email);
+        String status = challengeAdmissionStore.getStatus(boardId, user.getUserSeq());
+        if (status == null) {
+            return new ChallengeAdmissionResponseDto(ChallengeAdmissionResponseDto.Status.NONE, null);
+        }
+        if (status.startsWith(ChallengeAdmissionStore.FAILED_PREFIX)) {
+            ErrorCode errorCode = ErrorCode.valueOf(status.substring(ChallengeAdmissionStore.FAILED_PREFIX.length()));
+            return new ChallengeAdmissionResponseDto(ChallengeAdmissionResponseDto.Status.FAILED, errorCode.getMsg());
+        }
+        return new ChallengeAdmissionResponseDto(ChallengeAdmissionResponseDto.Status.valueOf(status), null);
+    }
+}
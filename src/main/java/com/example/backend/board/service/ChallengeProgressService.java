@@ -0,0 +1,89 @@
+package com.example.backend.board.service;
+
+import com.example.backend.board.domain.Board;
+import com.example.backend.board.domain.Category;
+import com.example.backend.board.domain.ChallengeProgress;
+import com.example.backend.board.dto.response.ChallengeProgressResponseDto;
+import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.board.repository.ChallengeProgressRepository;
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/*
+ * 첼린지 진행 현황 (날짜별 완료 인원 / 완료율)
+ * 완료 인원은 ChallengeProgress 에 바뀔 때마다 반영하고, 참여자 수는 Board.participatingCount 를 사용한다.
+ * 반영 메서드는 호출하는 쪽 트랜잭션 안에서 실행된다.
+ * */
+@Service
+@RequiredArgsConstructor
+public class ChallengeProgressService {
+
+    private final ChallengeProgressRepository challengeProgressRepository;
+    private final BoardRepository boardRepository;
+
+    // 첼린지 작성 시 날짜마다 0 으로 생성
+    public void createDays(Long boardId, Collection<Date> todoDates) {
+        Set<LocalDate> days = new TreeSet<>();
+        for (Date todoDate : todoDates) {
+            days.add(ChallengeProgress.dayOf(todoDate));
+        }
+        List<ChallengeProgress> progressList = new ArrayList<>(days.size());
+        for (LocalDate day : days) {
+            progressList.add(new ChallengeProgress(boardId, day, 0));
+        }
+        challengeProgressRepository.saveAll(progressList);
+    }
+
+    /*
+     * 참여자 todo 완료면 +1, 완료한 todo 가 있는 참여자가 취소하면 해당 날짜 -1
+     * 날짜 row 가 아직 없으면 (ChallengeProgressBackfill 전에 작성된 첼린지) backfill 과 같은 게시글 row lock 을 잡고 반영한다.
+     * backfill 이 먼저 잡았으면 backfill 이 만든 row 에 반영되고, 이쪽이 먼저 잡았으면 backfill 이 이 변경이 커밋된 뒤에 센다.
+     * */
+    public void changeDoneCount(Long boardId, Date todoDate, long delta) {
+        LocalDate day = ChallengeProgress.dayOf(todoDate);
+        if (!challengeProgressRepository.existsByBoardIdAndTodoDate(boardId, day)) {
+            boardRepository.findAllForUpdate(Collections.singletonList(boardId));
+        }
+        challengeProgressRepository.increaseDoneCount(boardId, day, delta);
+    }
+
+    @Transactional
+    public ChallengeProgressResponseDto getProgress(Long boardId) {
+        Board board = boardRepository.findById(boardId).orElseThrow(
+                () -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
+        if (!board.getCategory().equals(Category.CHALLENGE)) {
+            throw new CustomException(ErrorCode.DAILY_NO_CHALLENGE_PROGRESS);
+        }
+
+        long participantCount = board.getParticipatingCount() == null ? 0 : board.getParticipatingCount();
+        List<ChallengeProgressResponseDto.DayProgress> days = new ArrayList<>();
+        long doneCount = 0;
+        for (ChallengeProgress progress : challengeProgressRepository.findByBoardIdOrderByTodoDateAsc(boardId)) {
+            doneCount += progress.getDoneCount();
+            days.add(new ChallengeProgressResponseDto.DayProgress(
+                    progress.getTodoDate(),
+                    progress.getDoneCount(),
+                    rate(progress.getDoneCount(), participantCount)
+            ));
+        }
+        return new ChallengeProgressResponseDto(
+                boardId, participantCount, doneCount, rate(doneCount, participantCount * days.size()), days
+        );
+    }
+
+    private static double rate(long done, long total) {
+        return total <= 0 ? 0 : Math.min(1.0, (double) done / total);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.backend.board.view;
+
+import com.example.backend.board.domain.BoardViewerSketch;
+import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.board.repository.BoardViewerSketchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 게시글 조회수 / 순 방문자 수 집계
+ * 조회할 때는 서버 메모리의 LongAdder 와 HyperLogLog 에만 기록하고, flush-millis 마다 모아서 DB 에 반영한다.
+ * (서버마다 각자 flush, 순 방문자는 저장된 register 와 병합한 뒤 추정치를 Board 에 기록)
+ * 게시글 id 순서로 chunk-size 개씩 나눠서 커밋한다. (여러 서버가 동시에 flush 해도 같은 순서로 row lock 을 잡도록)
+ * flush 에 실패한 chunk 는 다음 flush 에서 다시 반영한다.
+ * */
+@Component
+@Slf4j
+public class BoardViewCounter {
+
+    private final BoardRepository boardRepository;
+    private final BoardViewerSketchRepository boardViewerSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int precision;
+    private final int chunkSize;
+
+    private final Map<Long, ViewStats> statsMap = new ConcurrentHashMap<>();
+
+    public BoardViewCounter(
+            BoardRepository boardRepository,
+            BoardViewerSketchRepository boardViewerSketchRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${board.view.unique-standard-error:0.02}") double uniqueStandardError,
+            @Value("${board.view.flush-chunk-size:100}") int chunkSize
+    ) {
+        this.boardRepository = boardRepository;
+        this.boardViewerSketchRepository = boardViewerSketchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.precision = HyperLogLog.precisionFor(uniqueStandardError);
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    public void record(Long boardId, Long userSeq) {
+        ViewStats stats = statsMap.computeIfAbsent(boardId, id -> new ViewStats(precision));
+        stats.views.increment();
+        if (userSeq != null) {
+            stats.offer(HyperLogLog.hash(userSeq));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.view.flush-millis:10000}")
+    @PreDestroy
+    public void flush() {
+        List<PendingFlush> pendingList = new ArrayList<>();
+        for (Map.Entry<Long, ViewStats> entry : statsMap.entrySet()) {
+            ViewStats stats = entry.getValue();
+            long total = stats.views.sum();
+            long delta = total - stats.flushedViews;
+            HyperLogLog sketch = stats.takeChangedSketch();
+            if (delta == 0 && sketch == null) {
+                // 한 주기 동안 조회가 없던 게시글은 정리 (제거 직전에 들어온 조회는 드물게 빠질 수 있음)
+                statsMap.remove(entry.getKey(), stats);
+                continue;
+            }
+            pendingList.add(new PendingFlush(entry.getKey(), stats, total, delta, sketch));
+        }
+        pendingList.sort(Comparator.comparing(pending -> pending.boardId));
+        for (int from = 0; from < pendingList.size(); from += chunkSize) {
+            flushChunk(pendingList.subList(from, Math.min(from + chunkSize, pendingList.size())));
+        }
+    }
+
+    private void flushChunk(List<PendingFlush> chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (PendingFlush pending : chunk) {
+                    write(pending);
+                }
+            });
+            for (PendingFlush pending : chunk) {
+                pending.stats.flushedViews = pending.total;
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to flush board view counts", e);
+            for (PendingFlush pending : chunk) {
+                if (pending.sketch != null) {
+                    pending.stats.restore(pending.sketch);
+                }
+            }
+        }
+    }
+
+    private void write(PendingFlush pending) {
+        if (pending.delta > 0) {
+            boardRepository.increaseViewCount(pending.boardId, pending.delta);
+        }
+        if (pending.sketch == null) {
+            return;
+        }
+
+        HyperLogLog merged = pending.sketch.copy();
+        BoardViewerSketch saved = boardViewerSketchRepository.findForUpdate(pending.boardId).orElse(null);
+        if (saved != null) {
+            HyperLogLog stored = HyperLogLog.fromBytes(saved.getRegisters());
+            // precision 설정이 바뀐 경우 이전 값은 버리고 새로 집계
+            if (stored.getPrecision() == merged.getPrecision()) {
+                merged.merge(stored);
+            }
+        }
+        // 삭제된 게시글이면 register 도 저장하지 않음
+        if (boardRepository.updateUniqueViewerCount(pending.boardId, merged.estimate()) == 0) {
+            return;
+        }
+        if (saved != null) {
+            saved.updateRegisters(merged.toBytes());
+        } else {
+            boardViewerSketchRepository.save(new BoardViewerSketch(pending.boardId, merged.toBytes()));
+        }
+    }
+
+    private static class ViewStats {
+        private final LongAdder views = new LongAdder();
+        // flush 스레드에서만 사용
+        private long flushedViews;
+        // 아래 필드는 this 로 동기화
+        private final int precision;
+        private HyperLogLog sketch;
+        private boolean sketchChanged;
+
+        private ViewStats(int precision) {
+            this.precision = precision;
+            this.sketch = new HyperLogLog(precision);
+        }
+
+        synchronized void offer(long hash) {
+            if (sketch.offer(hash)) {
+                sketchChanged = true;
+            }
+        }
+
+        // 마지막 flush 이후 새 방문자가 있었으면 지금까지의 sketch 를 넘기고 비움
+        synchronized HyperLogLog takeChangedSketch() {
+            if (!sketchChanged) {
+                return null;
+            }
+            HyperLogLog taken = sketch;
+            sketch = new HyperLogLog(precision);
+            sketchChanged = false;
+            return taken;
+        }
+
+        synchronized void restore(HyperLogLog taken) {
+            sketch.merge(taken);
+            sketchChanged = true;
+        }
+    }
+
+    private static class PendingFlush {
+        private final Long boardId;
+        private final ViewStats stats;
+        private final long total;
+        private final long delta;
+        private final HyperLogLog sketch;
+
+        private PendingFlush(Long boardId, ViewStats stats, long total, long delta, HyperLogLog sketch) {
+            this.boardId = boardId;
+            this.stats = stats;
+            this.total = total;
+            this.delta = delta;
+            this.sketch = sketch;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.backend.board.view;
+
+import java.util.Arrays;
+
+/*
+ * 게시글 순 방문자 수 추정용 HyperLogLog
+ * register 2^precision 개(각 1 byte), 표준 오차는 약 1.04 / sqrt(2^precision)
+ * 동기화는 호출하는 쪽에서 처리
+ * */
+public final class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    private HyperLogLog(int precision, byte[] registers) {
+        this.precision = precision;
+        this.registers = registers;
+    }
+
+    // 원하는 표준 오차를 만족하는 가장 작은 precision
+    public static int precisionFor(double standardError) {
+        double registerCount = Math.pow(1.04 / standardError, 2);
+        int precision = (int) Math.ceil(Math.log(registerCount) / Math.log(2));
+        return Math.max(MIN_PRECISION, Math.min(MAX_PRECISION, precision));
+    }
+
+    // toBytes() 로 저장한 값 (register 개수로 precision 을 판단)
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        int precision = Integer.numberOfTrailingZeros(bytes.length);
+        if (bytes.length != 1 << precision || precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("invalid register length : " + bytes.length);
+        }
+        return new HyperLogLog(precision, bytes.clone());
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    // hash 는 64bit 가 고르게 섞인 값이어야 함, register 가 바뀌었으면 true
+    public boolean offer(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // 하위 비트가 모두 0 이어도 rank 가 (64 - precision + 1) 을 넘지 않도록 sentinel bit 추가
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision mismatch : " + precision + " / " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+        int registerCount = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(registerCount) * registerCount * registerCount / sum;
+        // 작은 값은 linear counting 으로 보정
+        if (estimate <= 2.5 * registerCount && zeros > 0) {
+            estimate = registerCount * Math.log((double) registerCount / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+
+    public HyperLogLog copy() {
+        return new HyperLogLog(precision, Arrays.copyOf(registers, registers.length));
+    }
+
+    // 64bit 값을 고르게 섞음 (SplitMix64 finalizer)
+    public static long hash(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double alpha(int registerCount) {
+        switch (registerCount) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / registerCount);
+        }
+    }
+}
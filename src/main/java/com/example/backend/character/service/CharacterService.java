@@ -55,14 +55,11 @@ public class CharacterService {
     // 레벨이 특정 값 이상이면 스텝업
     // ..
     @Transactional
-    public TodoDoneResponseDto upgrade(String email, Todo todo) {
+    public TodoDoneResponseDto upgrade(User user, Todo todo) {
 
         Integer todayDone;
         boolean levelUp = false;
         boolean stepUp = false;
-        User user = userRepository.findByEmail(email).orElseThrow(
-                () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
         Characters characters = characterRepository.findById(user.getUserSeq()).orElseThrow(
                 () -> new CustomException(ErrorCode.CHARACTER_NOT_FOUND)
         );
@@ -102,11 +99,8 @@ public class CharacterService {
 
     // reload 시에 보내줄 CharacterDto -> 연관관계 매핑 해야됨
     // 유저 정보 조회 Controller 에서 CharacterResponeDto 추가
-    public CharacterResponseDto getCharacterInfo(String email) {
+    public CharacterResponseDto getCharacterInfo(User user) {
 
-        User user = userRepository.findByEmail(email).orElseThrow(
-                () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
         Characters c = characterRepository.findById(user.getUserSeq()).orElseThrow(
                 () -> new CustomException(ErrorCode.CHARACTER_NOT_FOUND)
         );
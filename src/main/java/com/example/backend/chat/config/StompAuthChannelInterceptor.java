@@ -0,0 +1,87 @@
+package com.example.backend.chat.config;
+
+import com.example.backend.user.token.AuthToken;
+import com.example.backend.user.token.AuthTokenProvider;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/*
+ * STOMP 인증 Interceptor
+ * CONNECT 시에 Authorization 헤더의 토큰을 한 번 검증해서 세션에 Principal 을 저장하고,
+ * SEND 는 세션의 Principal 을 그대로 사용한다. 토큰 만료 이후에는 SEND 헤더의 토큰으로 다시 검증한다.
+ * */
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 99)
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String HEADER_AUTHORIZATION = "Authorization";
+    private static final String AUTHENTICATION_ATTRIBUTE = StompAuthChannelInterceptor.class.getName() + ".authentication";
+    private static final String EXPIRY_ATTRIBUTE = StompAuthChannelInterceptor.class.getName() + ".expiry";
+
+    private final AuthTokenProvider tokenProvider;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            // 헤더가 없는 클라이언트는 SEND 시점에 인증
+            if (accessor.getFirstNativeHeader(HEADER_AUTHORIZATION) != null) {
+                accessor.setUser(authenticate(accessor));
+            }
+        } else if (StompCommand.SEND.equals(accessor.getCommand())) {
+            accessor.setUser(sessionAuthentication(accessor));
+        }
+        return message;
+    }
+
+    private Authentication sessionAuthentication(StompHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes != null) {
+            Authentication authentication = (Authentication) sessionAttributes.get(AUTHENTICATION_ATTRIBUTE);
+            Long expiry = (Long) sessionAttributes.get(EXPIRY_ATTRIBUTE);
+            if (authentication != null && expiry != null && expiry > System.currentTimeMillis()) {
+                return authentication;
+            }
+        }
+        return authenticate(accessor);
+    }
+
+    private Authentication authenticate(StompHeaderAccessor accessor) {
+        String tokenStr = accessor.getFirstNativeHeader(HEADER_AUTHORIZATION);
+        if (tokenStr == null) {
+            throw new MessageDeliveryException("Authorization header is required.");
+        }
+
+        AuthToken token = tokenProvider.convertAuthToken(tokenStr);
+        Claims claims = token.getTokenClaims();
+        if (claims == null || claims.getExpiration() == null) {
+            throw new MessageDeliveryException("Invalid token.");
+        }
+
+        Authentication authentication = tokenProvider.getAuthentication(token);
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes != null) {
+            sessionAttributes.put(AUTHENTICATION_ATTRIBUTE, authentication);
+            sessionAttributes.put(EXPIRY_ATTRIBUTE, claims.getExpiration().getTime());
+        }
+        return authentication;
+    }
+}
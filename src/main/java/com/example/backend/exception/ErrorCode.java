@@ -12,12 +12,16 @@ public enum ErrorCode {
     DUPLE_EMAIL(HttpStatus.BAD_REQUEST, "400", "중복된 이메일 입니다."),
     EMAIL_CONTENT_END(HttpStatus.BAD_REQUEST, "400", ""),
     INCORRECT_EMAIL_CODE(HttpStatus.BAD_REQUEST, "400", "이메일 인증에 실패하였습니다."),
+    MAIL_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "503", "메일 발송 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_EMAIL_REQUEST(HttpStatus.TOO_MANY_REQUESTS, "429", "인증 메일 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     DUPLE_NICK(HttpStatus.BAD_REQUEST, "400", "중복된 닉네임 입니다."),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "404", "사용자를 찾을 수 없습니다."),
     CONFIRM_EMAIL_PWD(HttpStatus.BAD_REQUEST, "400", "이메일 또는 비밀번호를 확인해주세요."),
 
     INVALID_OLD_PWD(HttpStatus.BAD_REQUEST, "400", "기존 비밀번호가 옳바르지 않습니다."),
 
+    PASSWORD_HASH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "503", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
     NOT_LOGIN(HttpStatus.BAD_REQUEST, "400", "로그인이 필요합니다."),
 
     NOT_EXPIRED_TOKEN_YET(HttpStatus.BAD_REQUEST,"400", "토큰이 만료되지 않았습니다."),
@@ -49,6 +53,8 @@ public enum ErrorCode {
 
     // 게시글
     BOARD_NOT_FOUND(HttpStatus.NOT_FOUND, "404", "해당 게시글이 존재하지 않습니다"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "400", "잘못된 cursor 값입니다."),
+    EXPIRED_CURSOR(HttpStatus.BAD_REQUEST, "400", "검색 결과가 변경되었습니다. 처음부터 다시 조회해주세요."),
     CHALLENGE_NOT_DELETE(HttpStatus.BAD_REQUEST, "400", "첼린지는 삭제할 수 없습니다."),
     CHALLENGE_NOT_UPDATE(HttpStatus.BAD_REQUEST, "400", "첼린지는 수정 불가 합니다."),
     CHALLENGE_CANCEL_APPLY_NOT(HttpStatus.BAD_REQUEST, "400", "해당 챌린지는 마감되어 신청/취소할 수 없습니다."),
@@ -57,6 +63,10 @@ public enum ErrorCode {
     DAILY_NOY_APPLY_CHALLENGE(HttpStatus.BAD_REQUEST, "400", "일상글은 참여/취소 할 수 없습니다."),
 
     NOT_APPLY_CHALLENGE_NOT_CANCEL(HttpStatus.BAD_REQUEST, "400", "신청 하지 않은 첼린지는 취소할 수 없습니다."),
+    ALREADY_APPLY_CHALLENGE(HttpStatus.BAD_REQUEST, "400", "이미 신청한 첼린지 입니다."),
+    CHALLENGE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "503", "첼린지 신청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    CHALLENGE_APPLY_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "500", "첼린지 신청을 처리하지 못했습니다. 다시 신청해주세요."),
+    DAILY_NO_CHALLENGE_PROGRESS(HttpStatus.BAD_REQUEST, "400", "일상글은 진행 현황이 없습니다."),
 
     // 채팅
     ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "404", "해당 채팅방이 존재하지 않습니다"),
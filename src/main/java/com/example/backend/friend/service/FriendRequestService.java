@@ -243,7 +243,7 @@ public class FriendRequestService {
         User userFriend = userRepository.findByUsername(nickFriend).orElseThrow(
                 () -> new CustomException(ErrorCode.USER_NOT_FOUND)
         );
-        CharacterResponseDto characterResponseDto = characterService.getCharacterInfo(userFriend.getEmail());
+        CharacterResponseDto characterResponseDto = characterService.getCharacterInfo(userFriend);
         // 공개 범위 및 친구 관계 확인
         List<TodoResponseDto> responseDtoList = new ArrayList<>();
         if (userFriend.getPublicScope() == PublicScope.FRIEND) {
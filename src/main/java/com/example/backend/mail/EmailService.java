@@ -1,9 +1,7 @@
 package com.example.backend.mail;
 
-import org.springframework.scheduling.annotation.Async;
-
 public interface EmailService {
 
-    @Async
+    // 메일 발송 대기열에 넣고 바로 반환
     void sendEmail(String email, String code);
 }
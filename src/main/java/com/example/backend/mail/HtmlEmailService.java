@@ -1,42 +1,223 @@
 package com.example.backend.mail;
 
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
 import com.example.backend.msg.MsgEnum;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring5.SpringTemplateEngine;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/*
+ * 인증 메일 발송 파이프라인
+ * 요청 Thread 는 대기열에 넣기만 하고, 발송 Worker 가 모아서 한 번의 SMTP 연결로 batch 발송한다.
+ * 실패한 메일은 지수 backoff 로 다시 대기열에 넣고, 종료 시에는 남은 메일을 한 번 더 보내고 내려간다.
+ * 대기열은 메모리에만 있으므로 비정상 종료 시 남은 메일은 유실될 수 있다. (코드는 Redis 에 남아 재발송 가능)
+ * 대기열 크기는 Semaphore 로 제한하고, 발송에 성공하거나 포기한 메일만 자리를 반납한다. (재시도 대기 중인 메일도 자리를 차지)
+ * */
 @Component
-@RequiredArgsConstructor
 @Slf4j
-public class HtmlEmailService implements EmailService{
+public class HtmlEmailService implements EmailService {
+
+    private static final String TEMPLATE_NAME = "mail"; // mail.html
 
     private final JavaMailSender emailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final MailTemplateRenderer templateRenderer;
+    private final DelayQueue<OutboundMail> queue = new DelayQueue<>();
+    private final Semaphore capacity;
+    private final ExecutorService workers;
+
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    private final Timer sendTimer;
+    private final Timer batchTimer;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+
+    private volatile boolean running = true;
+
+    public HtmlEmailService(
+            JavaMailSender emailSender,
+            MailTemplateRenderer templateRenderer,
+            MeterRegistry meterRegistry,
+            @Value("${mail.pipeline.workers:2}") int workerCount,
+            @Value("${mail.pipeline.batch-size:20}") int batchSize,
+            @Value("${mail.pipeline.queue-capacity:10000}") int queueCapacity,
+            @Value("${mail.pipeline.max-attempts:5}") int maxAttempts,
+            @Value("${mail.pipeline.backoff-millis:1000}") long backoffMillis,
+            @Value("${mail.pipeline.max-backoff-millis:60000}") long maxBackoffMillis
+    ) {
+        this.emailSender = emailSender;
+        this.templateRenderer = templateRenderer;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.capacity = new Semaphore(queueCapacity);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("mail-sender-"));
+
+        Gauge.builder("mail.queue", queue, DelayQueue::size).register(meterRegistry);
+        // 대기열에 들어간 시점부터 발송 완료까지
+        this.sendTimer = Timer.builder("mail.send.latency").register(meterRegistry);
+        // SMTP 연결 한 번에 걸린 시간
+        this.batchTimer = Timer.builder("mail.send.batch").register(meterRegistry);
+        this.retryCounter = Counter.builder("mail.send.retry").register(meterRegistry);
+        this.failureCounter = Counter.builder("mail.send.failure").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+    }
 
     @Override
     public void sendEmail(String email, String code) {
-        MimeMessage message = emailSender.createMimeMessage();
-        try{
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(message, false, "UTF-8");
-            mimeMessageHelper.setTo(email);
-            mimeMessageHelper.setSubject(MsgEnum.EMAIL_TITLE.getMsg());
-            mimeMessageHelper.setText(setContext(code), true);
-            emailSender.send(message);
-        } catch (MessagingException e) {
-            log.error("failed to send email", e);
+        if (!running || !capacity.tryAcquire()) {
+            throw new CustomException(ErrorCode.MAIL_QUEUE_FULL);
+        }
+        queue.offer(new OutboundMail(email, code));
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                OutboundMail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<OutboundMail> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                // 발송 시각이 된 항목만 batch 크기까지 추가로 꺼냄
+                queue.drainTo(batch, batchSize - 1);
+                send(batch, true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("mail worker error", e);
+            }
+        }
+    }
+
+    private void send(List<OutboundMail> batch, boolean retryOnFailure) {
+        Map<MimeMessage, OutboundMail> messages = new IdentityHashMap<>(batch.size());
+        for (OutboundMail mail : batch) {
+            try {
+                messages.put(createMessage(mail), mail);
+            } catch (MessagingException e) {
+                // 주소 형식 오류 등 재시도해도 실패하는 경우
+                failureCounter.increment();
+                capacity.release();
+                log.error("failed to create email to {}", mail.getEmail(), e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Collection<OutboundMail> failed;
+        long start = System.nanoTime();
+        try {
+            emailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            failed = new ArrayList<>();
+        } catch (MailSendException e) {
+            // 메시지별 실패 정보가 있으면 해당 메시지만, 없으면 batch 전체를 다시 시도
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                failed = messages.values();
+            } else {
+                failed = new ArrayList<>(failedMessages.size());
+                for (Object message : failedMessages.keySet()) {
+                    OutboundMail mail = messages.get(message);
+                    if (mail != null) {
+                        failed.add(mail);
+                    }
+                }
+            }
+            log.warn("failed to send {} of {} emails", failed.size(), messages.size(), e);
+        } catch (MailException e) {
+            failed = messages.values();
+            log.warn("failed to send {} emails", messages.size(), e);
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        long now = System.nanoTime();
+        for (OutboundMail mail : messages.values()) {
+            if (!failed.contains(mail)) {
+                sendTimer.record(now - mail.getEnqueuedAtNanos(), TimeUnit.NANOSECONDS);
+                capacity.release();
+            }
+        }
+        for (OutboundMail mail : failed) {
+            retry(mail, retryOnFailure);
+        }
+    }
+
+    private void retry(OutboundMail mail, boolean retryOnFailure) {
+        if (!retryOnFailure || mail.getAttempt() + 1 >= maxAttempts) {
+            failureCounter.increment();
+            capacity.release();
+            log.error("giving up sending email to {} after {} attempts", mail.getEmail(), mail.getAttempt() + 1);
+            return;
         }
+        long delay = Math.min(backoffMillis << Math.min(mail.getAttempt(), 20), maxBackoffMillis);
+        retryCounter.increment();
+        queue.offer(mail.retry(delay));
+    }
+
+    private MimeMessage createMessage(OutboundMail mail) throws MessagingException {
+        MimeMessage message = emailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(message, false, "UTF-8");
+        mimeMessageHelper.setTo(mail.getEmail());
+        mimeMessageHelper.setSubject(MsgEnum.EMAIL_TITLE.getMsg());
+        mimeMessageHelper.setText(templateRenderer.render(TEMPLATE_NAME, mail.getCode()), true);
+        return message;
     }
 
-    public String setContext(String code) { // 타임리프 설정하는 코드
-        Context context = new Context();
-        context.setVariable("code", code); // Template에 전달할 데이터 설정
-        return templateEngine.process("mail", context); // mail.html
+    // 새 요청은 받지 않고, Worker 를 멈춘 뒤 남은 메일은 backoff 대기 중인 것까지 한 번씩 발송
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+
+        List<OutboundMail> remaining = new ArrayList<>(queue);
+        queue.clear();
+        for (int i = 0; i < remaining.size(); i += batchSize) {
+            send(remaining.subList(i, Math.min(i + batchSize, remaining.size())), false);
+        }
     }
 }
@@ -0,0 +1,35 @@
+package com.example.backend.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 메일 템플릿 렌더링 캐시
+ * 템플릿마다 코드 자리에 placeholder 를 넣어 한 번만 렌더링해두고, 발송 시에는 문자열 치환만 한다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class MailTemplateRenderer {
+
+    private static final String CODE_PLACEHOLDER = "__MAIL_CODE_PLACEHOLDER__";
+
+    private final SpringTemplateEngine templateEngine;
+    private final Map<String, String> rendered = new ConcurrentHashMap<>();
+
+    public String render(String templateName, String code) {
+        String template = rendered.computeIfAbsent(templateName, this::renderTemplate);
+        return template.replace(CODE_PLACEHOLDER, HtmlUtils.htmlEscape(code));
+    }
+
+    private String renderTemplate(String templateName) { // 타임리프 설정하는 코드
+        Context context = new Context();
+        context.setVariable("code", CODE_PLACEHOLDER); // Template에 전달할 데이터 설정
+        return templateEngine.process(templateName, context);
+    }
+}
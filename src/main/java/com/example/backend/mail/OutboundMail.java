@@ -0,0 +1,49 @@
+package com.example.backend.mail;
+
+import lombok.Getter;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 발송 대기열 항목
+ * 재시도 시에는 attempt 를 늘리고 다음 발송 시각을 뒤로 미룬 새 항목으로 다시 넣는다.
+ * */
+@Getter
+class OutboundMail implements Delayed {
+
+    private final String email;
+    private final String code;
+    private final int attempt;
+    private final long enqueuedAtNanos;
+    private final long sendAtNanos;
+
+    OutboundMail(String email, String code) {
+        this(email, code, 0, System.nanoTime(), System.nanoTime());
+    }
+
+    private OutboundMail(String email, String code, int attempt, long enqueuedAtNanos, long sendAtNanos) {
+        this.email = email;
+        this.code = code;
+        this.attempt = attempt;
+        this.enqueuedAtNanos = enqueuedAtNanos;
+        this.sendAtNanos = sendAtNanos;
+    }
+
+    OutboundMail retry(long delayMillis) {
+        return new OutboundMail(email, code, attempt + 1, enqueuedAtNanos, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis));
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(sendAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other instanceof OutboundMail) {
+            return Long.compare(sendAtNanos, ((OutboundMail) other).sendAtNanos);
+        }
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
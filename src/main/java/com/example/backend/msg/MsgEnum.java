@@ -26,6 +26,8 @@ public enum MsgEnum {
 
     CHALLENGE_APPLY_SUCCESS("첼린지 신청 완료"),
 
+    CHALLENGE_APPLY_QUEUED("첼린지 신청 대기 중입니다. 신청 결과를 확인해주세요."),
+
     CHALLENGE_CANCEL_SUCCESS("첼린지 취소 완료"),
 
     IMAGE_UPLOAD_FAIL("이미지 업로드에 실패했습니다."),
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
@@ -31,6 +32,17 @@ public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositor
 
     boolean existsByBoardAndUser(Board board, User user);
 
+    // 게시글 엔티티 없이 참여 여부만 확인 (상세 조회)
+    boolean existsByBoardIdAndUser(Long boardId, User user);
+
+    // 첼린지 대기열 처리 시 이미 신청한 사용자 확인
+    @Query("select distinct t.user.userSeq from Todo t where t.board=:board and t.user.userSeq in :userSeqs")
+    List<Long> findApplicantUserSeqs(Board board, Collection<Long> userSeqs);
+
+    // 첼린지 진행 현황 backfill 용, [todoDate, 완료 수]
+    @Query("select t.todoDate, count(t) from Todo t where t.board.id=:boardId and t.state=true group by t.todoDate")
+    List<Object[]> countDoneByTodoDate(Long boardId);
+
     @Query("select t from Todo t where t.user=:user and t.todoDate=CURRENT_DATE")
     List<Todo> findAllByTodoDate(User user);
 
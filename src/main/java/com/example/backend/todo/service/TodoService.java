@@ -1,6 +1,7 @@
 package com.example.backend.todo.service;
 
 import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.board.service.ChallengeProgressService;
 import com.example.backend.character.repository.CharacterRepository;
 import com.example.backend.character.service.CharacterService;
 import com.example.backend.exception.CustomException;
@@ -12,6 +13,7 @@ import com.example.backend.todo.dto.request.TodoUpdateRequestDto;
 import com.example.backend.todo.dto.response.TodoDoneResponseDto;
 import com.example.backend.todo.dto.response.TodoResponseDto;
 import com.example.backend.todo.repository.TodoRepository;
+import com.example.backend.user.common.CurrentUserResolver;
 import com.example.backend.user.domain.User;
 import com.example.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -36,13 +38,13 @@ public class TodoService {
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
     private final CharacterService characterService;
+    private final CurrentUserResolver currentUserResolver;
+    private final ChallengeProgressService challengeProgressService;
 
     @Transactional
     public Page<TodoResponseDto> getTodoList(String email, String filter, Integer page, Integer size, String sort) {
 
-        User user = userRepository.findByEmail(email).orElseThrow(
-                () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
+        User user = currentUserResolver.getUser(email);
 
         Pageable pageable;
 
@@ -83,9 +85,7 @@ public class TodoService {
 
         List<Todo> todoList = new ArrayList<>();
 
-        User user = userRepository.findByEmail(email).orElseThrow(
-                () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
+        User user = currentUserResolver.getUser(email);
 
         SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd");
 
@@ -101,12 +101,17 @@ public class TodoService {
 
     @Transactional
     public TodoDoneResponseDto done(String email, Long id) {
-        Todo todo = getTodo(id, email);
+        User user = currentUserResolver.getUser(email);
+        Todo todo = getTodo(id, user);
         if (todo.isState()) {
             throw new CustomException(ErrorCode.TODO_ALREADY_DONE);
         }
         todo.done();
-        return characterService.upgrade(email, todo);
+        if (todo.getBoard() != null) {
+            //첼린지 todo 면 날짜별 완료 인원에 반영
+            challengeProgressService.changeDoneCount(todo.getBoard().getId(), todo.getTodoDate(), 1);
+        }
+        return characterService.upgrade(user, todo);
     }
 
 
@@ -115,7 +120,7 @@ public class TodoService {
 
         SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd");
         Date date = formatter.parse(requestDto.getTodoDate());
-        Todo todo = getTodo(id, email);
+        Todo todo = getTodo(id, currentUserResolver.getUser(email));
         if (todo.getBoard() != null) {
             throw new CustomException(ErrorCode.CHALLENGE_UPDATE_FORBIDDEN);
         }
@@ -125,7 +130,7 @@ public class TodoService {
 
     public void deleteTodo(String email, Long id) {
 
-        Todo todo = getTodo(id, email);
+        Todo todo = getTodo(id, currentUserResolver.getUser(email));
         if (todo.getBoard() != null) {
             throw new CustomException(ErrorCode.CHALLENGE_DELETE_FORBIDDEN);
         }
@@ -134,14 +139,11 @@ public class TodoService {
     }
 
 
-    private Todo getTodo(Long id, String email) {
+    private Todo getTodo(Long id, User user) {
 
         Todo todo = todoRepository.findById(id).orElseThrow(
                 () -> new CustomException(ErrorCode.TODO_NOT_FOUND)
         );
-        User user = userRepository.findByEmail(email).orElseThrow(
-                () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
         if (!Objects.equals(todo.getUser().getUserSeq(), user.getUserSeq())) {
             throw new CustomException(ErrorCode.INCORRECT_USERID);
         }
@@ -155,5 +157,6 @@ public class TodoService {
                 () -> new CustomException(ErrorCode.USER_NOT_FOUND)
         );
         user.updatePublicScope(requestDto.getPublicScope());
+        currentUserResolver.evict(user);
     }
 }
@@ -0,0 +1,26 @@
+package com.example.backend.user.common;
+
+import com.example.backend.user.domain.User;
+import lombok.Getter;
+
+/*
+ * UserCache 에 보관하는 사용자 정보 (변경 불가)
+ * 요청 간에 공유되므로 엔티티 대신 식별에 필요한 값만 복사해서 보관한다.
+ * */
+@Getter
+public class CachedUser {
+
+    private final Long userSeq;
+    private final String email;
+    private final boolean deleted;
+
+    private CachedUser(Long userSeq, String email, boolean deleted) {
+        this.userSeq = userSeq;
+        this.email = email;
+        this.deleted = deleted;
+    }
+
+    public static CachedUser of(User user) {
+        return new CachedUser(user.getUserSeq(), user.getEmail(), user.isDeleted());
+    }
+}
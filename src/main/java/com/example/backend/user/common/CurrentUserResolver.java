@@ -0,0 +1,66 @@
+package com.example.backend.user.common;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.user.domain.User;
+import com.example.backend.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.persistence.EntityManager;
+
+/*
+ * 요청 단위로 로그인 사용자(User)를 한 번만 조회하도록 도와주는 Resolver
+ * 요청 간에는 UserCache 에 userSeq 등 변경 불가한 값만 보관하고,
+ * 반환하는 User 는 현재 영속성 컨텍스트의 참조(em.getReference)라서 userSeq / 연관관계 / 쿼리 파라미터로 쓸 때는 조회하지 않는다.
+ * 다른 필드를 읽으면 현재 요청의 영속성 컨텍스트에서 조회된다. 요청 안에서는 request attribute 에 보관한다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserResolver {
+
+    private static final String ATTRIBUTE_PREFIX = CurrentUserResolver.class.getName() + ".";
+
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final EntityManager em;
+
+    // email 은 JWT subject (LoadUser.getEmail())
+    public User getUser(String email) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        String attributeName = ATTRIBUTE_PREFIX + email;
+        if (attributes != null) {
+            Object user = attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+            if (user != null) {
+                return (User) user;
+            }
+        }
+
+        CachedUser cachedUser = userCache.getByEmail(email, () -> userRepository.findByEmail(email))
+                .filter(u -> !u.isDeleted())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        User user = em.getReference(User.class, cachedUser.getUserSeq());
+        if (attributes != null) {
+            attributes.setAttribute(attributeName, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    public User getUser(Long userSeq) {
+        CachedUser cachedUser = userCache.getBySeq(userSeq, () -> userRepository.findById(userSeq))
+                .filter(u -> !u.isDeleted())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        return em.getReference(User.class, cachedUser.getUserSeq());
+    }
+
+    // 사용자 정보가 변경되었을 때 요청/요청 간 캐시 모두 제거
+    public void evict(User user) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(ATTRIBUTE_PREFIX + user.getEmail(), RequestAttributes.SCOPE_REQUEST);
+        }
+        userCache.evict(user);
+    }
+}
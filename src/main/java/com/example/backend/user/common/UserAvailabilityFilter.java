@@ -0,0 +1,173 @@
+package com.example.backend.user.common;
+
+import com.example.backend.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+/*
+ * 이메일 / 닉네임 사용 가능 여부 사전 체크용 Bloom filter
+ * 필터에 없으면 DB 조회 없이 사용 가능, 있을 수도 있으면 exists 쿼리로 확인한다.
+ * 가입, 닉네임 변경 시 커밋 후에 추가하고 Redis 채널로 다른 서버에도 전달한다.
+ * Bloom filter 는 삭제가 안되므로 탈퇴나 닉네임 변경으로 비게 된 값은 주기적인 재생성 때 빠진다.
+ * */
+@Component
+@Slf4j
+public class UserAvailabilityFilter {
+
+    private static final String CHANNEL = "user-availability";
+    private static final String EMAIL_PREFIX = "E:";
+    private static final String NICK_PREFIX = "N:";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    // 최초 생성 전에는 null 이고, 이때는 항상 DB 로 확인
+    private volatile Filters current;
+    // 재생성 중에 추가되는 값도 새 필터에 반영되도록 보관
+    private volatile Filters rebuilding;
+
+    public UserAvailabilityFilter(
+            UserRepository userRepository,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${user.filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        redisMessageListenerContainer.addMessageListener(this::onMessage, ChannelTopic.of(CHANNEL));
+    }
+
+    public boolean isEmailTaken(String email) {
+        Filters filters = current;
+        if (filters != null && !filters.emails.mightContain(normalize(email))) {
+            return false;
+        }
+        return userRepository.existsByEmail(email);
+    }
+
+    public boolean isNickTaken(String nick) {
+        Filters filters = current;
+        if (filters != null && !filters.nicks.mightContain(normalize(nick))) {
+            return false;
+        }
+        return userRepository.existsByUsername(nick);
+    }
+
+    // 트랜잭션 안이면 커밋 후에 반영 (재생성 쿼리가 아직 커밋되지 않은 값을 놓치지 않도록)
+    public void addEmail(String email) {
+        publishAfterCommit(EMAIL_PREFIX, email);
+    }
+
+    public void addNick(String nick) {
+        publishAfterCommit(NICK_PREFIX, nick);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user.filter.rebuild-millis:3600000}", initialDelayString = "${user.filter.rebuild-millis:3600000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long userCount = userRepository.count();
+        Filters next = new Filters(Math.max(expectedInsertions, userCount * 2), falsePositiveRate);
+        rebuilding = next;
+        try {
+            List<String> emails = userRepository.findAllEmails();
+            for (String email : emails) {
+                next.emails.add(normalize(email));
+            }
+            List<String> nicks = userRepository.findAllUsernames();
+            for (String nick : nicks) {
+                next.nicks.add(normalize(nick));
+            }
+            current = next;
+            log.info("user availability filter rebuilt : {} emails, {} nicks ({}ms)", emails.size(), nicks.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("failed to rebuild user availability filter", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void publishAfterCommit(String prefix, String value) {
+        if (value == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(prefix, value);
+                }
+            });
+        } else {
+            publish(prefix, value);
+        }
+    }
+
+    private void publish(String prefix, String value) {
+        apply(prefix + value);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, prefix + value);
+        } catch (RuntimeException e) {
+            // 다른 서버는 다음 재생성 때 반영되고, 그 전까지는 가입 시 DB 체크로 막힌다
+            log.warn("failed to publish user availability update", e);
+        }
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        apply(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void apply(String message) {
+        add(current, message);
+        add(rebuilding, message);
+    }
+
+    private static void add(Filters filters, String message) {
+        if (filters == null) {
+            return;
+        }
+        if (message.startsWith(EMAIL_PREFIX)) {
+            filters.emails.add(normalize(message.substring(EMAIL_PREFIX.length())));
+        } else if (message.startsWith(NICK_PREFIX)) {
+            filters.nicks.add(normalize(message.substring(NICK_PREFIX.length())));
+        }
+    }
+
+    // MySQL 기본 collation 처럼 대소문자, 뒤쪽 공백, 악센트를 구분하지 않도록 맞춘다 (false negative 방지)
+    private static String normalize(String value) {
+        String stripped = value.replaceAll("\\s+$", "");
+        return Normalizer.normalize(stripped, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static class Filters {
+        private final BloomFilter emails;
+        private final BloomFilter nicks;
+
+        private Filters(long expectedInsertions, double falsePositiveRate) {
+            this.emails = new BloomFilter(expectedInsertions, falsePositiveRate);
+            this.nicks = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+    }
+}
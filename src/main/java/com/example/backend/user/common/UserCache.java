@@ -0,0 +1,96 @@
+package com.example.backend.user.common;
+
+import com.example.backend.user.domain.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/*
+ * 요청 간 공유되는 User 조회 캐시 (email, userSeq 두 가지 키)
+ * 엔티티는 조회한 요청의 영속성 컨텍스트에 속하므로 보관하지 않고, 변경 불가한 CachedUser 로 복사해서 보관한다.
+ * 사용자 정보를 변경하면 evict 해야 한다.
+ * */
+@Component
+public class UserCache {
+
+    private final Cache<String, CachedUser> byEmail;
+    private final Cache<Long, CachedUser> bySeq;
+
+    public UserCache(
+            @Value("${user.cache.maximum-size:10000}") long maximumSize,
+            @Value("${user.cache.expire-seconds:60}") long expireSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        this.bySeq = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "user.email");
+        CaffeineCacheMetrics.monitor(meterRegistry, bySeq, "user.seq");
+    }
+
+    public Optional<CachedUser> getByEmail(String email, Supplier<Optional<User>> loader) {
+        CachedUser cachedUser = byEmail.getIfPresent(email);
+        if (cachedUser == null) {
+            cachedUser = put(loader.get().orElse(null));
+        }
+        return Optional.ofNullable(cachedUser);
+    }
+
+    public Optional<CachedUser> getBySeq(Long userSeq, Supplier<Optional<User>> loader) {
+        CachedUser cachedUser = bySeq.getIfPresent(userSeq);
+        if (cachedUser == null) {
+            cachedUser = put(loader.get().orElse(null));
+        }
+        return Optional.ofNullable(cachedUser);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 비워서, 커밋 전에 다시 캐시된 이전 값을 제거
+    public void evict(User user) {
+        evictNow(user.getEmail(), user.getUserSeq());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            String email = user.getEmail();
+            Long userSeq = user.getUserSeq();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(email, userSeq);
+                }
+            });
+        }
+    }
+
+    private CachedUser put(User user) {
+        if (user == null) {
+            return null;
+        }
+        CachedUser cachedUser = CachedUser.of(user);
+        byEmail.put(cachedUser.getEmail(), cachedUser);
+        bySeq.put(cachedUser.getUserSeq(), cachedUser);
+        return cachedUser;
+    }
+
+    private void evictNow(String email, Long userSeq) {
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+        if (userSeq != null) {
+            bySeq.invalidate(userSeq);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.backend.user.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/*
+ * 서버 성능에 맞춰 BCrypt cost 를 정하는 클래스 (password.hash.strength=0 일 때만 사용)
+ * cost 가 1 올라갈 때마다 해싱 시간이 2배가 되므로, 목표 시간을 넘지 않는 가장 큰 cost 를 찾는다.
+ * 측정 결과는 서버마다 다를 수 있으므로 로그에 남은 값을 password.hash.strength 에 고정해서 배포한다.
+ * */
+@Slf4j
+public class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        // JIT 워밍업
+        new BCryptPasswordEncoder(4).encode(SAMPLE_PASSWORD);
+
+        int strength = minStrength;
+        long elapsedMillis = measure(strength);
+        while (strength < maxStrength && elapsedMillis * 2 <= targetMillis) {
+            strength++;
+            elapsedMillis = measure(strength);
+        }
+        log.info("BCrypt strength calibrated : " + strength + " (" + elapsedMillis + "ms, target " + targetMillis + "ms)"
+                + ", set password.hash.strength=" + strength + " to keep it fixed");
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.backend.user.config;
 
 import com.example.backend.user.token.AuthTokenProvider;
+import com.example.backend.user.token.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,8 +12,19 @@ public class JwtConfig {
     @Value("${jwt.secret}")
     private String secret;
 
+    // 검증된 토큰 캐시 최대 개수
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long cacheMaximumSize;
+
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(MeterRegistry meterRegistry) {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(cacheMaximumSize);
+        verifiedTokenCache.bindTo(meterRegistry);
+        return verifiedTokenCache;
+    }
+
     @Bean
-    public AuthTokenProvider jwtProvider() {
-        return new AuthTokenProvider(secret);
+    public AuthTokenProvider jwtProvider(VerifiedTokenCache verifiedTokenCache) {
+        return new AuthTokenProvider(secret, verifiedTokenCache);
     }
 }
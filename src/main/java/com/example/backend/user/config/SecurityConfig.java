@@ -8,11 +8,13 @@ import com.example.backend.user.oauth.handler.OAuth2AuthenticationFailureHandler
 import com.example.backend.user.oauth.handler.OAuth2AuthenticationSuccessHandler;
 import com.example.backend.user.oauth.handler.TokenAccessDeniedHandler;
 import com.example.backend.user.repository.OAuth2AuthorizationRequestBasedOnCookieRepository;
-import com.example.backend.user.repository.UserRefreshTokenRepository;
+import com.example.backend.user.repository.RefreshTokenStore;
 import com.example.backend.user.repository.UserRepository;
 import com.example.backend.user.service.CustomOAuth2UserService;
 import com.example.backend.user.token.AuthTokenProvider;
+import com.example.backend.utils.OAuth2AuthorizationRequestCookieCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -39,10 +41,27 @@ public class SecurityConfig {
     private final AuthTokenProvider tokenProvider;
     private final CustomOAuth2UserService oAuth2UserService;
     private final TokenAccessDeniedHandler tokenAccessDeniedHandler;
-    private final UserRefreshTokenRepository userRefreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final EmitterService emitterService;
     private final UserRepository userRepository;
 
+    @Value("${jwt.secret}")
+    private String secret;
+
+    // 고정 BCrypt cost, 0 이면 기동 시 측정 (서버/재기동마다 달라질 수 있으므로 측정 결과를 설정에 고정해서 사용)
+    @Value("${password.hash.strength:10}")
+    private int passwordHashStrength;
+
+    // 측정할 때의 목표 시간(ms), 이 시간을 넘지 않는 가장 큰 BCrypt cost 사용
+    @Value("${password.hash.target-millis:250}")
+    private long passwordHashTargetMillis;
+
+    @Value("${password.hash.min-strength:10}")
+    private int passwordHashMinStrength;
+
+    @Value("${password.hash.max-strength:14}")
+    private int passwordHashMaxStrength;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -145,10 +164,16 @@ public class SecurityConfig {
 
     /*
      * security 설정 시, 사용할 인코더 설정
+     * password.hash.strength 로 고정한 cost 를 사용하고, 더 낮은 cost 로 저장된 비밀번호는 로그인 시 다시 해싱한다.
      * */
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        if (passwordHashStrength > 0) {
+            return new BCryptPasswordEncoder(passwordHashStrength);
+        }
+        return new BCryptPasswordEncoder(BCryptStrengthCalibrator.calibrate(
+                passwordHashTargetMillis, passwordHashMinStrength, passwordHashMaxStrength
+        ));
     }
 
     /*
@@ -165,7 +190,7 @@ public class SecurityConfig {
      * */
     @Bean
     public OAuth2AuthorizationRequestBasedOnCookieRepository oAuth2AuthorizationRequestBasedOnCookieRepository() {
-        return new OAuth2AuthorizationRequestBasedOnCookieRepository();
+        return new OAuth2AuthorizationRequestBasedOnCookieRepository(new OAuth2AuthorizationRequestCookieCodec(secret));
     }
 
     /*
@@ -176,7 +201,7 @@ public class SecurityConfig {
         return new OAuth2AuthenticationSuccessHandler(
                 tokenProvider,
                 appProperties,
-                userRefreshTokenRepository,
+                refreshTokenStore,
                 userRepository,
                 emitterService,
                 oAuth2AuthorizationRequestBasedOnCookieRepository()
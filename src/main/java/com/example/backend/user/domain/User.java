@@ -18,7 +18,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "USER")
+@Table(name = "USER", indexes = @Index(name = "IDX_USER_USERNAME", columnList = "USERNAME"))
 public class User extends BaseTime {
     @JsonIgnore
     @Id
@@ -69,6 +69,12 @@ public class User extends BaseTime {
     @Enumerated(EnumType.STRING)
     private PublicScope publicScope;
 
+    // 탈퇴 처리된 회원 (데이터는 UserDeletionScheduler 가 나중에 삭제)
+    @JsonIgnore
+    @Column(name = "DELETED_YN", length = 1)
+    @ColumnDefault("'N'")
+    private String deletedYn = "N";
+
     @OneToMany(mappedBy = "user" ,fetch = FetchType.LAZY)
     private List<Participant> participantList = new ArrayList<>();
 
@@ -140,6 +146,17 @@ public class User extends BaseTime {
         this.publicScope = PublicScope.valueOf(publicScope);
     }
 
+    // 이메일/닉네임은 바로 재사용할 수 있도록 비워둔다
+    public void markDeleted() {
+        this.deletedYn = "Y";
+        this.email = "deleted_" + userSeq + "_" + email;
+        this.username = null;
+    }
+
+    public boolean isDeleted() {
+        return "Y".equals(deletedYn);
+    }
+
     @PrePersist
     public void prePersist() {
         this.publicScope = this.publicScope == null ? PublicScope.ALL : this.publicScope;
@@ -0,0 +1,58 @@
+package com.example.backend.user.domain;
+
+import com.example.backend.common.domain.BaseTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/*
+ * 회원 탈퇴 진행 상황
+ * 탈퇴 요청 시 생성되고, UserDeletionScheduler 가 단계별로 나눠서 삭제하며 진행 상황을 기록한다.
+ * */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "IDX_USER_DELETION_COMPLETED", columnList = "completedYn"))
+public class UserDeletion extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long userSeq;
+
+    @Column(length = 30, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private UserDeletionStep step;
+
+    // 지금까지 삭제/수정한 row 수
+    @Column(nullable = false)
+    private long purgedCount;
+
+    @Column(length = 1, nullable = false)
+    private String completedYn;
+
+    public UserDeletion(Long userSeq) {
+        this.userSeq = userSeq;
+        this.step = UserDeletionStep.values()[0];
+        this.purgedCount = 0;
+        this.completedYn = "N";
+    }
+
+    public void addPurged(long count) {
+        this.purgedCount += count;
+    }
+
+    public void nextStep() {
+        this.step = step.next();
+        if (step == UserDeletionStep.DONE) {
+            this.completedYn = "Y";
+        }
+    }
+
+    public boolean isCompleted() {
+        return "Y".equals(completedYn);
+    }
+}
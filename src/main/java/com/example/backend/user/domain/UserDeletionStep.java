@@ -0,0 +1,25 @@
+package com.example.backend.user.domain;
+
+/*
+ * 회원 탈퇴 후 데이터 삭제 단계 (FK 참조 순서대로 진행)
+ * */
+public enum UserDeletionStep {
+    FRIEND_REQUEST,
+    PARTICIPANT,
+    NOTIFICATION,
+    CHAT_MESSAGE,
+    // 다른 사용자의 첼린지 참여 취소 (참여자 수 / 날짜별 완료 수도 같이 감소)
+    CHALLENGE_TODO,
+    TODO,
+    // 게시글 단위로 참여자 todo 연결 끊기, BoardTodo / 순 방문자 register / 진행 현황 / 게시글 삭제를 한 트랜잭션에서 처리
+    BOARD,
+    STAMP_DATE,
+    STAMP,
+    CHARACTER,
+    USER,
+    DONE;
+
+    public UserDeletionStep next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
@@ -7,11 +7,10 @@ import com.example.backend.user.config.AppProperties;
 import com.example.backend.user.domain.ProviderType;
 import com.example.backend.user.domain.RoleType;
 import com.example.backend.user.domain.User;
-import com.example.backend.user.domain.UserRefreshToken;
 import com.example.backend.user.oauth.info.OAuth2UserInfo;
 import com.example.backend.user.oauth.info.OAuth2UserInfoFactory;
 import com.example.backend.user.repository.OAuth2AuthorizationRequestBasedOnCookieRepository;
-import com.example.backend.user.repository.UserRefreshTokenRepository;
+import com.example.backend.user.repository.RefreshTokenStore;
 import com.example.backend.user.repository.UserRepository;
 import com.example.backend.user.token.AuthToken;
 import com.example.backend.user.token.AuthTokenProvider;
@@ -43,7 +42,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
     private final AuthTokenProvider tokenProvider;
     private final AppProperties appProperties;
-    private final UserRefreshTokenRepository userRefreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final UserRepository userRepository;
     private final EmitterService emitterService;
     private final OAuth2AuthorizationRequestBasedOnCookieRepository authorizationRequestRepository;
@@ -106,14 +105,8 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
                 new Date(now.getTime() + refreshTokenExpiry)
         );
 
-        // DB 저장
-        UserRefreshToken userRefreshToken = userRefreshTokenRepository.findByEmail(userInfo.getEmail());
-        if (userRefreshToken != null) {
-            userRefreshToken.setRefreshToken(refreshToken.getToken());
-        } else {
-            userRefreshToken = new UserRefreshToken(userInfo.getEmail(), refreshToken.getToken());
-            userRefreshTokenRepository.saveAndFlush(userRefreshToken);
-        }
+        // refresh 토큰 저장
+        refreshTokenStore.save(userInfo.getEmail(), refreshToken.getToken(), refreshTokenExpiry);
 
 //        int cookieMaxAge = (int) refreshTokenExpiry / 60;
 //        CookieUtil.deleteCookie(request, response, REFRESH_TOKEN);
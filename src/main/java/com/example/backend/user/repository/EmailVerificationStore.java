@@ -0,0 +1,112 @@
+package com.example.backend.user.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+
+/*
+ * 이메일 인증 코드 저장소 (Redis)
+ * 주소당 키 하나에 현재 유효한 코드만 TTL 과 함께 보관하고, 인증이 끝나면 같은 키를 VERIFIED 로 바꿔둔다.
+ * 재발송 횟수는 주소별 ZSET 으로 슬라이딩 윈도우 제한
+ * */
+@Repository
+public class EmailVerificationStore {
+
+    private static final String CODE_KEY_PREFIX = "email_verification:";
+    private static final String SEND_KEY_PREFIX = "email_verification_send:";
+    private static final String VERIFIED = "VERIFIED";
+
+    // 윈도우 밖의 발송 기록을 지우고, 남은 개수가 limit 미만일 때만 이번 발송을 기록
+    private static final RedisScript<Long> SEND_PERMIT_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+                    "local window = tonumber(ARGV[2]) " +
+                    "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window) " +
+                    "if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then " +
+                    "return 0 " +
+                    "end " +
+                    "redis.call('ZADD', KEYS[1], now, ARGV[4]) " +
+                    "redis.call('PEXPIRE', KEYS[1], window) " +
+                    "return 1",
+            Long.class
+    );
+
+    // 저장된 코드와 같을 때만 VERIFIED 로 교체
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "return 1 " +
+                    "end " +
+                    "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration codeTtl;
+    private final Duration verifiedTtl;
+    private final Duration sendWindow;
+    private final int sendLimit;
+
+    public EmailVerificationStore(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${email.verification.code-ttl-seconds:300}") long codeTtlSeconds,
+            @Value("${email.verification.verified-ttl-seconds:1800}") long verifiedTtlSeconds,
+            @Value("${email.verification.send-window-seconds:3600}") long sendWindowSeconds,
+            @Value("${email.verification.send-limit:5}") int sendLimit
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.codeTtl = Duration.ofSeconds(codeTtlSeconds);
+        this.verifiedTtl = Duration.ofSeconds(verifiedTtlSeconds);
+        this.sendWindow = Duration.ofSeconds(sendWindowSeconds);
+        this.sendLimit = sendLimit;
+    }
+
+    // 발송 허용이면 이번 발송 기록의 id, 횟수를 넘었으면 null
+    public String tryAcquireSendPermit(String email) {
+        String permitId = UUID.randomUUID().toString();
+        Long result = stringRedisTemplate.execute(
+                SEND_PERMIT_SCRIPT,
+                Collections.singletonList(SEND_KEY_PREFIX + email),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(sendWindow.toMillis()),
+                String.valueOf(sendLimit),
+                permitId
+        );
+        return result != null && result == 1L ? permitId : null;
+    }
+
+    // 메일을 보내지 못한 경우 발송 기록을 지워서 재발송 횟수에 포함하지 않음
+    public void releaseSendPermit(String email, String permitId) {
+        stringRedisTemplate.opsForZSet().remove(SEND_KEY_PREFIX + email, permitId);
+    }
+
+    // 이전 코드는 덮어써서 주소당 하나만 유효
+    public void saveCode(String email, String code) {
+        stringRedisTemplate.opsForValue().set(CODE_KEY_PREFIX + email, code, codeTtl);
+    }
+
+    public boolean verify(String email, String code) {
+        if (code == null || VERIFIED.equals(code)) {
+            return false;
+        }
+        Long result = stringRedisTemplate.execute(
+                VERIFY_SCRIPT,
+                Collections.singletonList(CODE_KEY_PREFIX + email),
+                code, VERIFIED, String.valueOf(verifiedTtl.toMillis())
+        );
+        return result != null && result == 1L;
+    }
+
+    public boolean isVerified(String email) {
+        return VERIFIED.equals(stringRedisTemplate.opsForValue().get(CODE_KEY_PREFIX + email));
+    }
+
+    public void delete(String email) {
+        stringRedisTemplate.delete(Collections.singletonList(CODE_KEY_PREFIX + email));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backend.user.repository;
+
+import com.example.backend.user.domain.UserRefreshToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * Redis 를 사용할 수 없을 때의 대체 구현 (USER_REFRESH_TOKEN 테이블)
+ * */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.auth.refresh-token-store", havingValue = "jpa")
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final UserRefreshTokenRepository userRefreshTokenRepository;
+
+    @Override
+    public String findByEmail(String email) {
+        UserRefreshToken userRefreshToken = userRefreshTokenRepository.findByEmail(email);
+        return userRefreshToken == null ? null : userRefreshToken.getRefreshToken();
+    }
+
+    @Override
+    @Transactional
+    public void save(String email, String refreshToken, long expiryMillis) {
+        UserRefreshToken userRefreshToken = userRefreshTokenRepository.findByEmail(email);
+        if (userRefreshToken == null) {
+            // 없는 경우 새로 등록
+            userRefreshTokenRepository.saveAndFlush(new UserRefreshToken(email, refreshToken));
+        } else {
+            // DB에 refresh 토큰 업데이트
+            userRefreshToken.setRefreshToken(refreshToken);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(String email, String oldRefreshToken, String newRefreshToken, long expiryMillis) {
+        UserRefreshToken userRefreshToken = userRefreshTokenRepository.findByEmailAndRefreshToken(email, oldRefreshToken);
+        if (userRefreshToken == null) {
+            return false;
+        }
+        userRefreshToken.setRefreshToken(newRefreshToken);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void revokeAll(String email) {
+        userRefreshTokenRepository.deleteByEmail(email);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.backend.user.repository;
 
 import com.example.backend.utils.CookieUtil;
+import com.example.backend.utils.OAuth2AuthorizationRequestCookieCodec;
 import com.nimbusds.oauth2.sdk.util.StringUtils;
 import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
@@ -15,10 +16,16 @@ public class OAuth2AuthorizationRequestBasedOnCookieRepository implements Author
     public final static String REFRESH_TOKEN = "refresh_token";
     private final static int cookieExpireSeconds = 180;
 
+    private final OAuth2AuthorizationRequestCookieCodec cookieCodec;
+
+    public OAuth2AuthorizationRequestBasedOnCookieRepository(OAuth2AuthorizationRequestCookieCodec cookieCodec) {
+        this.cookieCodec = cookieCodec;
+    }
+
     @Override
     public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
         return CookieUtil.getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME)
-                .map(cookie -> CookieUtil.deserialize(cookie, OAuth2AuthorizationRequest.class))
+                .map(cookie -> cookieCodec.decode(cookie.getValue()))
                 .orElse(null);
     }
 
@@ -31,7 +38,7 @@ public class OAuth2AuthorizationRequestBasedOnCookieRepository implements Author
             return;
         }
 
-        CookieUtil.addCookie(response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME, CookieUtil.serialize(authorizationRequest), cookieExpireSeconds);
+        CookieUtil.addCookie(response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME, cookieCodec.encode(authorizationRequest), cookieExpireSeconds);
         String redirectUriAfterLogin = request.getParameter(REDIRECT_URI_PARAM_COOKIE_NAME);
         if (StringUtils.isNotBlank(redirectUriAfterLogin)) {
             CookieUtil.addCookie(response, REDIRECT_URI_PARAM_COOKIE_NAME, redirectUriAfterLogin, cookieExpireSeconds);
@@ -0,0 +1,60 @@
+package com.example.backend.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collections;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.auth.refresh-token-store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh_token:";
+
+    // GET 과 SET 사이에 다른 요청이 끼어들지 않도록 스크립트로 비교 후 교체
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "return 1 " +
+                    "end " +
+                    "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public String findByEmail(String email) {
+        return stringRedisTemplate.opsForValue().get(key(email));
+    }
+
+    @Override
+    public void save(String email, String refreshToken, long expiryMillis) {
+        stringRedisTemplate.opsForValue().set(key(email), refreshToken, Duration.ofMillis(expiryMillis));
+    }
+
+    @Override
+    public boolean rotate(String email, String oldRefreshToken, String newRefreshToken, long expiryMillis) {
+        Long result = stringRedisTemplate.execute(
+                ROTATE_SCRIPT,
+                Collections.singletonList(key(email)),
+                oldRefreshToken, newRefreshToken, String.valueOf(expiryMillis)
+        );
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void revokeAll(String email) {
+        stringRedisTemplate.delete(key(email));
+    }
+
+    private String key(String email) {
+        return KEY_PREFIX + email;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.user.repository;
+
+/*
+ * 리프레시 토큰 저장소
+ * app.auth.refresh-token-store 값으로 구현체 선택 (redis - 기본값 / jpa)
+ * */
+public interface RefreshTokenStore {
+
+    String findByEmail(String email);
+
+    void save(String email, String refreshToken, long expiryMillis);
+
+    // 저장된 토큰이 oldRefreshToken 과 같을 때만 newRefreshToken 으로 교체
+    boolean rotate(String email, String oldRefreshToken, String newRefreshToken, long expiryMillis);
+
+    void revokeAll(String email);
+}
@@ -0,0 +1,10 @@
+package com.example.backend.user.repository;
+
+import com.example.backend.user.domain.UserDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface UserDeletionRepository extends JpaRepository<UserDeletion, Long> {
+    List<UserDeletion> findTop10ByCompletedYnOrderByIdAsc(String completedYn);
+}
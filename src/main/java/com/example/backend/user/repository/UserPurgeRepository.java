@@ -0,0 +1,162 @@
+package com.example.backend.user.repository;
+
+import com.example.backend.user.domain.UserDeletionStep;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static com.example.backend.board.domain.QBoard.board;
+import static com.example.backend.board.domain.QBoardTodo.boardTodo;
+import static com.example.backend.board.domain.QBoardViewerSketch.boardViewerSketch;
+import static com.example.backend.board.domain.QChallengeProgress.challengeProgress;
+import static com.example.backend.character.domain.QCharacters.characters;
+import static com.example.backend.chat.domain.QChatMessage.chatMessage;
+import static com.example.backend.chat.domain.QParticipant.participant;
+import static com.example.backend.event.domain.QStamp.stamp;
+import static com.example.backend.event.domain.QStampDate.stampDate;
+import static com.example.backend.friend.domain.QFriendRequest.friendRequest;
+import static com.example.backend.notification.domain.QNotification.notification;
+import static com.example.backend.todo.domain.QTodo.todo;
+import static com.example.backend.user.domain.QUser.user;
+
+/*
+ * 탈퇴한 회원의 데이터를 단계별로 chunk 단위 삭제
+ * id 를 chunkSize 만큼 조회한 뒤 해당 id 만 삭제해서, 한 트랜잭션이 잡는 row lock 을 제한한다.
+ * 벌크 쿼리라 영속성 컨텍스트를 거치지 않으므로 트랜잭션마다 새로 조회해서 사용해야 한다.
+ * */
+@Repository
+public class UserPurgeRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public UserPurgeRepository(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    // 처리한 row 수, 0 이면 해당 단계 완료
+    public long purge(UserDeletionStep step, Long userSeq, int chunkSize) {
+        switch (step) {
+            case FRIEND_REQUEST:
+                return delete(friendRequest, friendRequest.id,
+                        friendRequest.userFrom.userSeq.eq(userSeq).or(friendRequest.userTo.userSeq.eq(userSeq)), chunkSize);
+            case PARTICIPANT:
+                return delete(participant, participant.id, participant.user.userSeq.eq(userSeq), chunkSize);
+            case NOTIFICATION:
+                return delete(notification, notification.id, notification.user.userSeq.eq(userSeq), chunkSize);
+            case CHAT_MESSAGE:
+                return delete(chatMessage, chatMessage.id, chatMessage.user.userSeq.eq(userSeq), chunkSize);
+            case TODO:
+                return delete(todo, todo.id, todo.user.userSeq.eq(userSeq), chunkSize);
+            // CHALLENGE_TODO, BOARD 는 카운터 / 이벤트 반영이 필요해서 UserPurgeService 에서 아래 메서드로 처리
+            case STAMP_DATE:
+                return delete(stampDate, stampDate.id, stampDate.stamp.user.userSeq.eq(userSeq), chunkSize);
+            case STAMP:
+                return delete(stamp, stamp.id, stamp.user.userSeq.eq(userSeq), chunkSize);
+            case CHARACTER:
+                return delete(characters, characters.id, characters.user.userSeq.eq(userSeq), chunkSize);
+            case USER:
+                return queryFactory
+                        .delete(user)
+                        .where(user.userSeq.eq(userSeq), user.deletedYn.eq("Y"))
+                        .execute();
+            default:
+                return 0;
+        }
+    }
+
+    private long delete(EntityPathBase<?> path, NumberPath<Long> id, BooleanExpression condition, int chunkSize) {
+        List<Long> ids = queryFactory
+                .select(id)
+                .from(path)
+                .where(condition)
+                .limit(chunkSize)
+                .fetch();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return queryFactory
+                .delete(path)
+                .where(id.in(ids))
+                .execute();
+    }
+
+    // 탈퇴한 회원이 참여한 다른 사용자의 첼린지
+    public List<Long> findChallengeBoardIds(Long userSeq, int limit) {
+        return queryFactory
+                .select(todo.board.id)
+                .distinct()
+                .from(todo)
+                .where(todo.user.userSeq.eq(userSeq), todo.board.user.userSeq.ne(userSeq))
+                .limit(limit)
+                .fetch();
+    }
+
+    // 첼린지에서 완료한 날짜 (진행 현황에서 제외할 날짜)
+    public List<Date> findDoneTodoDates(Long userSeq, Long boardId) {
+        return queryFactory
+                .select(todo.todoDate)
+                .from(todo)
+                .where(todo.user.userSeq.eq(userSeq), todo.board.id.eq(boardId), todo.state.isTrue())
+                .fetch();
+    }
+
+    // 첼린지 신청 시각 (신청할 때 Todo 를 한 번에 저장하므로 가장 이른 생성 시각)
+    public LocalDateTime findJoinedAt(Long userSeq, Long boardId) {
+        return queryFactory
+                .select(todo.createdDate.min())
+                .from(todo)
+                .where(todo.user.userSeq.eq(userSeq), todo.board.id.eq(boardId))
+                .fetchOne();
+    }
+
+    public long deleteChallengeTodos(Long userSeq, Long boardId) {
+        return queryFactory
+                .delete(todo)
+                .where(todo.user.userSeq.eq(userSeq), todo.board.id.eq(boardId))
+                .execute();
+    }
+
+    public List<Long> findBoardIds(Long userSeq, int limit) {
+        return queryFactory
+                .select(board.id)
+                .from(board)
+                .where(board.user.userSeq.eq(userSeq))
+                .orderBy(board.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 다른 사용자가 참여한 챌린지 todo 에서 게시글 연결만 끊기
+    public long detachBoardTodos(Long boardId, int chunkSize) {
+        List<Long> ids = queryFactory
+                .select(todo.id)
+                .from(todo)
+                .where(todo.board.id.eq(boardId))
+                .limit(chunkSize)
+                .fetch();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return queryFactory
+                .update(todo)
+                .setNull(todo.board)
+                .where(todo.id.in(ids))
+                .execute();
+    }
+
+    // 게시글과 게시글에 딸린 데이터 삭제 (순 방문자 register, 진행 현황은 Board 와 FK 없음)
+    public long deleteBoard(Long boardId) {
+        long count = queryFactory.delete(boardTodo).where(boardTodo.board.id.eq(boardId)).execute();
+        count += queryFactory.delete(boardViewerSketch).where(boardViewerSketch.boardId.eq(boardId)).execute();
+        count += queryFactory.delete(challengeProgress).where(challengeProgress.boardId.eq(boardId)).execute();
+        count += queryFactory.delete(board).where(board.id.eq(boardId)).execute();
+        return count;
+    }
+}
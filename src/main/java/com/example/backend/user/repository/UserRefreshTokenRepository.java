@@ -8,4 +8,5 @@ import org.springframework.stereotype.Repository;
 public interface UserRefreshTokenRepository extends JpaRepository<UserRefreshToken, Long> {
     UserRefreshToken findByEmail(String email);
     UserRefreshToken findByEmailAndRefreshToken(String email, String refreshToken);
+    void deleteByEmail(String email);
 }
@@ -2,13 +2,30 @@ package com.example.backend.user.repository;
 
 import com.example.backend.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByUsername(String nick);
+    boolean existsByEmail(String email);
+    boolean existsByUsername(String nick);
+
+    @Query("select u.email from User u")
+    List<String> findAllEmails();
+
+    @Query("select u.username from User u where u.username is not null")
+    List<String> findAllUsernames();
+
+    // 같은 사용자의 첼린지 신청/취소를 순서대로 처리하도록 row lock (여러 명이면 userSeq 순서로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.userSeq in :userSeqs order by u.userSeq")
+    List<User> findAllForUpdate(@Param("userSeqs") Collection<Long> userSeqs);
 
 }
@@ -0,0 +1,86 @@
+package com.example.backend.user.scheduler;
+
+import com.example.backend.user.domain.UserDeletion;
+import com.example.backend.user.repository.UserDeletionRepository;
+import com.example.backend.user.service.UserPurgeService;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/*
+ * 탈퇴한 회원 데이터 삭제 Worker
+ * chunk 하나를 트랜잭션 하나로 처리해서 row lock 을 오래 잡지 않고, 진행 상황은 UserDeletion 에 남긴다.
+ * 한 번 실행할 때 time-budget 만큼만 처리하고 나머지는 다음 실행에서 이어서 진행
+ * */
+@Component
+@Slf4j
+public class UserDeletionScheduler {
+
+    private final UserDeletionRepository userDeletionRepository;
+    private final UserPurgeService userPurgeService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long timeBudgetMillis;
+
+    public UserDeletionScheduler(
+            UserDeletionRepository userDeletionRepository,
+            UserPurgeService userPurgeService,
+            PlatformTransactionManager transactionManager,
+            @Value("${user.deletion.chunk-size:500}") int chunkSize,
+            @Value("${user.deletion.time-budget-millis:30000}") long timeBudgetMillis
+    ) {
+        this.userDeletionRepository = userDeletionRepository;
+        this.userPurgeService = userPurgeService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${user.deletion.interval-millis:10000}")
+    @SchedulerLock(name = "userDeletionLock", lockAtMostFor = "10m")
+    public void purge() {
+        long deadline = System.currentTimeMillis() + timeBudgetMillis;
+        List<UserDeletion> deletions = userDeletionRepository.findTop10ByCompletedYnOrderByIdAsc("N");
+        for (UserDeletion deletion : deletions) {
+            try {
+                while (System.currentTimeMillis() < deadline) {
+                    Boolean remaining = transactionTemplate.execute(status -> purgeChunk(deletion.getId()));
+                    if (!Boolean.TRUE.equals(remaining)) {
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                // 다음 실행에서 같은 단계부터 다시 시도
+                log.error("failed to purge deleted user {}", deletion.getUserSeq(), e);
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return;
+            }
+        }
+    }
+
+    // 현재 단계의 chunk 하나를 처리하고, 남은 작업이 있으면 true
+    private boolean purgeChunk(Long deletionId) {
+        UserDeletion deletion = userDeletionRepository.findById(deletionId).orElse(null);
+        if (deletion == null || deletion.isCompleted()) {
+            return false;
+        }
+
+        long count = userPurgeService.purge(deletion.getStep(), deletion.getUserSeq(), chunkSize);
+        if (count > 0) {
+            deletion.addPurged(count);
+        } else {
+            deletion.nextStep();
+            if (deletion.isCompleted()) {
+                log.info("deleted user {} purged : {} rows", deletion.getUserSeq(), deletion.getPurgedCount());
+            }
+        }
+        return !deletion.isCompleted();
+    }
+}
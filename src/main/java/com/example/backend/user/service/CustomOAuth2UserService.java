@@ -3,6 +3,7 @@ package com.example.backend.user.service;
 import com.example.backend.event.domain.Stamp;
 import com.example.backend.event.repository.StampRepository;
 import com.example.backend.exception.OAuthProviderMissMatchException;
+import com.example.backend.user.common.UserAvailabilityFilter;
 import com.example.backend.user.domain.ProviderType;
 import com.example.backend.user.domain.RoleType;
 import com.example.backend.user.domain.User;
@@ -31,6 +32,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final StampRepository stampRepository;
+    private final UserAvailabilityFilter userAvailabilityFilter;
 
     @Value("${basic.profile.img}")
     private String basicImg;
@@ -65,6 +67,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             //최초 가입
             savedUser = createUser(userInfo, providerType);
             stampRepository.save(new Stamp(savedUser));
+            userAvailabilityFilter.addEmail(savedUser.getEmail());
         }
 
         return UserPrincipal.create(savedUser, user.getAttributes());
@@ -0,0 +1,108 @@
+package com.example.backend.user.service;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+ * 비밀번호 해싱 전용 Thread Pool
+ * CPU 를 많이 쓰는 BCrypt 연산이 Tomcat 요청 Thread 전체를 점유하지 않도록 동시 실행 수와 대기열을 제한하고,
+ * 대기열이 가득 차면 바로 거절(503)한다.
+ * BCrypt 는 interrupt 를 확인하지 않으므로 timeout 이 나도 이미 시작한 해싱은 끝까지 실행된다.
+ * (timeout 은 요청 Thread 만 먼저 돌려보낸다. 그래서 pool-size 는 CPU 코어 수보다 크게 잡지 않는다)
+ * */
+@Service
+@Slf4j
+public class PasswordHashService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final Counter rejectedCounter;
+    private final long timeoutMillis;
+
+    public PasswordHashService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${password.hash.pool-size:0}") int poolSize,
+            @Value("${password.hash.queue-capacity:50}") int queueCapacity,
+            @Value("${password.hash.timeout-millis:3000}") long timeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        // 0 이면 CPU 코어 수 만큼 사용
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+
+        Gauge.builder("password.hash.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮은 경우
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.PASSWORD_HASH_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에 남아 있던 작업만 실행되지 않고, 실행 중인 해싱은 멈추지 않음
+            future.cancel(false);
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.PASSWORD_HASH_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.PASSWORD_HASH_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
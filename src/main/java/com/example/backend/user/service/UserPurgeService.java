@@ -0,0 +1,73 @@
+package com.example.backend.user.service;
+
+import com.example.backend.board.event.BoardChangedEvent;
+import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.board.service.ChallengeProgressService;
+import com.example.backend.user.domain.UserDeletionStep;
+import com.example.backend.user.repository.UserPurgeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+/*
+ * 탈퇴한 회원 데이터 삭제 단계 처리 (UserDeletionScheduler 가 chunk 마다 호출, 호출하는 쪽 트랜잭션 안에서 실행)
+ * 다른 사용자의 첼린지 참여는 첼린지 단위로 취소해서 참여자 수와 날짜별 완료 수를 같이 줄이고,
+ * 게시글은 참여자 todo 연결 끊기부터 게시글 삭제까지 게시글 단위로 한 트랜잭션에서 처리한다. (그 사이 신청한 todo 가 FK 로 삭제를 막지 않도록)
+ * 바뀐 게시글은 BoardChangedEvent 로 검색 색인, 목록 / 검색 캐시, 인기 순위에 반영한다.
+ * */
+@Service
+@RequiredArgsConstructor
+public class UserPurgeService {
+
+    private final UserPurgeRepository userPurgeRepository;
+    private final BoardRepository boardRepository;
+    private final ChallengeProgressService challengeProgressService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 처리한 row 수, 0 이면 해당 단계 완료
+    public long purge(UserDeletionStep step, Long userSeq, int chunkSize) {
+        switch (step) {
+            case CHALLENGE_TODO:
+                return withdrawChallenges(userSeq, chunkSize);
+            case BOARD:
+                return purgeBoard(userSeq, chunkSize);
+            default:
+                return userPurgeRepository.purge(step, userSeq, chunkSize);
+        }
+    }
+
+    // BoardService.cancelChallenge 와 같은 반영 (첼린지 시작 여부와 상관없이 취소)
+    private long withdrawChallenges(Long userSeq, int chunkSize) {
+        long count = 0;
+        for (Long boardId : userPurgeRepository.findChallengeBoardIds(userSeq, chunkSize)) {
+            for (Date todoDate : userPurgeRepository.findDoneTodoDates(userSeq, boardId)) {
+                challengeProgressService.changeDoneCount(boardId, todoDate, -1);
+            }
+            LocalDateTime joinedAt = userPurgeRepository.findJoinedAt(userSeq, boardId);
+            count += userPurgeRepository.deleteChallengeTodos(userSeq, boardId);
+            boardRepository.decreaseParticipatingCount(boardId);
+            eventPublisher.publishEvent(BoardChangedEvent.participantCancelled(boardId, joinedAt));
+        }
+        return count;
+    }
+
+    // 게시글 하나씩, 참여자 todo 가 chunkSize 보다 많으면 연결만 끊고 다음 chunk 에서 이어서 진행
+    private long purgeBoard(Long userSeq, int chunkSize) {
+        List<Long> boardIds = userPurgeRepository.findBoardIds(userSeq, 1);
+        if (boardIds.isEmpty()) {
+            return 0;
+        }
+        Long boardId = boardIds.get(0);
+        long count = userPurgeRepository.detachBoardTodos(boardId, chunkSize);
+        if (count >= chunkSize) {
+            return count;
+        }
+        count += userPurgeRepository.deleteBoard(boardId);
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(boardId));
+        return count;
+    }
+}
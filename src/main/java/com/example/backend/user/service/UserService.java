@@ -1,6 +1,6 @@
 package com.example.backend.user.service;
 
-import com.example.backend.board.domain.Board;
+import com.example.backend.board.event.BoardChangedEvent;
 import com.example.backend.board.repository.BoardRepository;
 import com.example.backend.character.dto.CharacterResponseDto;
 import com.example.backend.character.service.CharacterService;
@@ -15,11 +15,14 @@ import com.example.backend.s3.AwsS3Service;
 import com.example.backend.todo.domain.Todo;
 import com.example.backend.todo.dto.response.TodoResponseDto;
 import com.example.backend.todo.repository.TodoRepository;
+import com.example.backend.user.common.CurrentUserResolver;
+import com.example.backend.user.common.UserAvailabilityFilter;
 import com.example.backend.user.config.AppProperties;
 import com.example.backend.user.domain.*;
 import com.example.backend.user.dto.*;
-import com.example.backend.user.repository.EmailCheckRepository;
-import com.example.backend.user.repository.UserRefreshTokenRepository;
+import com.example.backend.user.repository.EmailVerificationStore;
+import com.example.backend.user.repository.RefreshTokenStore;
+import com.example.backend.user.repository.UserDeletionRepository;
 import com.example.backend.user.repository.UserRepository;
 import com.example.backend.user.token.AuthToken;
 import com.example.backend.user.token.AuthTokenProvider;
@@ -29,10 +32,10 @@ import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.thymeleaf.context.Context;
@@ -53,19 +56,23 @@ import static org.springframework.security.oauth2.core.endpoint.OAuth2ParameterN
 public class UserService {
 
     private final CharacterService characterService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashService passwordHashService;
     private final UserRepository userRepository;
-    private final EmailCheckRepository emailCheckRepository;
+    private final UserDeletionRepository userDeletionRepository;
+    private final EmailVerificationStore emailVerificationStore;
     private final AppProperties appProperties;
     private final AuthTokenProvider tokenProvider;
-    private final UserRefreshTokenRepository userRefreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final StampRepository stampRepository;
     private final static long THREE_DAYS_MSEC = 259200000;
     private final AwsS3Service awsS3Service;
     private final TodoRepository todoRepository;
     private final EmailService emailService;
-    private final BoardRepository boardRepository;
     private final EmitterService emitterService;
+    private final CurrentUserResolver currentUserResolver;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+    private final BoardRepository boardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${basic.profile.img}")
     private String basicImg;
@@ -73,22 +80,31 @@ public class UserService {
     public String emailCertification(String email) {
 
         //중복이메일 체크
-        dupleEmailCheck(email);
+        if (userAvailabilityFilter.isEmailTaken(email)){
+            throw new CustomException(ErrorCode.DUPLE_EMAIL);
+        }
+        //재발송 횟수 제한
+        String sendPermit = emailVerificationStore.tryAcquireSendPermit(email);
+        if (sendPermit == null) {
+            throw new CustomException(ErrorCode.TOO_MANY_EMAIL_REQUEST);
+        }
         String code = ThreadLocalRandom.current().nextInt(100000, 1000000)+"";
-        emailCheckRepository.save(new EmailCheck(email, code));
-
-        emailService.sendEmail(email, code);
+        emailVerificationStore.saveCode(email, code);
+
+        try {
+            emailService.sendEmail(email, code);
+        } catch (CustomException e) {
+            //대기열이 가득 차서 보내지 못한 요청은 재발송 횟수에서 제외
+            emailVerificationStore.releaseSendPermit(email, sendPermit);
+            throw e;
+        }
 
         return MsgEnum.EMAIL_SEND.getMsg();
     }
 
-    @Transactional
     public String emailCertificationCheck(EmailCheckRequestDto emailCheckDto) {
-        List<EmailCheck> emailCheck = getEmailCheckList(emailCheckDto.getEmail());
-        EmailCheck firstValue = emailCheck.get(0);
-        if (firstValue.getCode().equals(emailCheckDto.getCode())){
-            //인증 완료시 Y로 바꾸기
-            firstValue.verificationCompleted("Y");
+        //인증 완료시 VERIFIED 로 바꾸기
+        if (emailVerificationStore.verify(emailCheckDto.getEmail(), emailCheckDto.getCode())){
             return MsgEnum.CORRECT_EMAIL_CODE.getMsg();
         }
         throw new CustomException(ErrorCode.INCORRECT_EMAIL_CODE);
@@ -96,7 +112,9 @@ public class UserService {
 
     public String nickCheck(NickRequestDto registerDto) {
         //중복 닉네임 체크
-        dupleNickCheck(registerDto.getNick());
+        if (userAvailabilityFilter.isNickTaken(registerDto.getNick())){
+            throw new CustomException(ErrorCode.DUPLE_NICK);
+        }
 
         return MsgEnum.AVAILABLE_NICK.getMsg();
     }
@@ -108,19 +126,14 @@ public class UserService {
         //닉네임 중복
         dupleNickCheck(registerDto.getNick());
         //인증 메일 보냈나 확인
-
-        List<EmailCheck> emailChecks = getEmailCheckList(registerDto.getEmail());
-        if (emailChecks.get(0).getConfirmYn() == null){
-            throw new CustomException(ErrorCode.INCORRECT_EMAIL_CODE);
-        }
-        if (emailChecks.get(0).getConfirmYn().equals("N")){
+        if (!emailVerificationStore.isVerified(registerDto.getEmail())){
             throw new CustomException(ErrorCode.INCORRECT_EMAIL_CODE);
         }
 
         User user = User.builder()
                 .email(registerDto.getEmail())
                 .username(registerDto.getNick())
-                .password(passwordEncoder.encode(registerDto.getPassword()))
+                .password(passwordHashService.encode(registerDto.getPassword()))
                 .roleType(RoleType.USER)
                 .providerType(ProviderType.LOCAL)
                 .profileImageUrl(basicImg)
@@ -128,44 +141,46 @@ public class UserService {
 
         User saveUser = userRepository.save(user);
         stampRepository.save(new Stamp(saveUser));
+        userAvailabilityFilter.addEmail(saveUser.getEmail());
+        userAvailabilityFilter.addNick(saveUser.getUsername());
 
         //인증한 이메일 삭제
-        emailCheckRepository.deleteByEmail(user.getEmail());
+        emailVerificationStore.delete(user.getEmail());
 
         return MsgEnum.REGISTER_SUCCESS.getMsg();
     }
 
+    // 가입/변경 시에는 필터 없이 DB 로 확인
     private void dupleEmailCheck(String email) {
-        if(userRepository.findByEmail(email).isPresent()){
+        if(userRepository.existsByEmail(email)){
             throw new CustomException(ErrorCode.DUPLE_EMAIL);
         }
     }
 
     private void dupleNickCheck(String nick) {
-        if(userRepository.findByUsername(nick).isPresent()){
+        if(userRepository.existsByUsername(nick)){
             throw new CustomException(ErrorCode.DUPLE_NICK);
         }
     }
 
-    private List<EmailCheck> getEmailCheckList(String email) {
-        List<EmailCheck> emailCheck = emailCheckRepository.findByEmailOrderByCreatedDateDesc(email);
-        if (emailCheck.size() == 0){
-            throw new CustomException(ErrorCode.INCORRECT_EMAIL_CODE);
-        }
-        return emailCheck;
-    }
-
     @Transactional
     public String login(LoginRequestDto loginRequestDto, HttpServletRequest request, HttpServletResponse response) {
         //회원 있는지 없는지 체크
         User user = userRepository.findByEmail(loginRequestDto.getEmail())
+                .filter(u -> !u.isDeleted())
                 .orElseThrow(() -> new CustomException(ErrorCode.CONFIRM_EMAIL_PWD));
 
         //비밀번호 체크
-        if (!passwordEncoder.matches(loginRequestDto.getPassword(), user.getPassword())) {
+        if (!passwordHashService.matches(loginRequestDto.getPassword(), user.getPassword())) {
             throw new CustomException(ErrorCode.CONFIRM_EMAIL_PWD);
         }
 
+        //예전 cost 로 저장된 비밀번호면 현재 cost 로 다시 해싱
+        if (passwordHashService.needsRehash(user.getPassword())) {
+            user.updatePassword(passwordHashService.encode(loginRequestDto.getPassword()));
+            currentUserResolver.evict(user);
+        }
+
         //create accessToken
         Date now = new Date();
         AuthToken accessToken = tokenProvider.createAuthToken(
@@ -182,16 +197,8 @@ public class UserService {
                 new Date(now.getTime() + refreshTokenExpiry)
         );
 
-        // userId refresh token 으로 DB 확인
-        UserRefreshToken userRefreshToken = userRefreshTokenRepository.findByEmail(user.getEmail());
-        if (userRefreshToken == null) {
-            // 없는 경우 새로 등록
-            userRefreshToken = new UserRefreshToken(user.getEmail(), refreshToken.getToken());
-            userRefreshTokenRepository.saveAndFlush(userRefreshToken);
-        } else {
-            // DB에 refresh 토큰 업데이트
-            userRefreshToken.setRefreshToken(refreshToken.getToken());
-        }
+        // refresh 토큰 저장 (기존 토큰은 덮어씀)
+        refreshTokenStore.save(user.getEmail(), refreshToken.getToken(), refreshTokenExpiry);
 
 //        int cookieMaxAge = (int) refreshTokenExpiry / 60;
 //        CookieUtil.deleteCookie(request, response, REFRESH_TOKEN);
@@ -216,11 +223,11 @@ public class UserService {
         RoleType roleType = RoleType.of(claims.get("role", String.class));
 
         // refresh token
-        UserRefreshToken userRefreshToken = userRefreshTokenRepository.findByEmail(email);
-        if (userRefreshToken == null){
+        String storedRefreshToken = refreshTokenStore.findByEmail(email);
+        if (storedRefreshToken == null){
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
-        AuthToken authRefreshToken = tokenProvider.convertAuthToken(userRefreshToken.getRefreshToken());
+        AuthToken authRefreshToken = tokenProvider.convertAuthToken(storedRefreshToken);
         if (!authRefreshToken.validate()) {
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
@@ -243,8 +250,10 @@ public class UserService {
                     appProperties.getAuth().getTokenSecret(),
                     new Date(now.getTime() + refreshTokenExpiry)
             );
-            // DB에 refresh 토큰 업데이트 해주기
-            userRefreshToken.setRefreshToken(authRefreshToken.getToken());
+            // 저장된 토큰이 그대로일 때만 교체, 동시에 들어온 다른 요청이 먼저 갱신했다면 그 토큰을 유지
+            if (!refreshTokenStore.rotate(email, storedRefreshToken, authRefreshToken.getToken(), refreshTokenExpiry)) {
+                log.info("refresh token already rotated : " + email);
+            }
 
 //            int cookieMaxAge = (int) refreshTokenExpiry / 60;
 //            CookieUtil.deleteCookie(request, response, REFRESH_TOKEN);
@@ -261,6 +270,8 @@ public class UserService {
         User user = getUser(email);
         dupleNickCheck(nick);
         user.addNick(nick);
+        currentUserResolver.evict(user);
+        userAvailabilityFilter.addNick(nick);
 
         Date now = new Date();
         AuthToken newAccessToken = tokenProvider.createAuthToken(
@@ -276,15 +287,7 @@ public class UserService {
                 new Date(now.getTime() + refreshTokenExpiry)
         );
 
-        UserRefreshToken userRefreshToken = userRefreshTokenRepository.findByEmail(email);
-        if (userRefreshToken == null) {
-            // 없는 경우 새로 등록
-            userRefreshToken = new UserRefreshToken(email, refreshToken.getToken());
-            userRefreshTokenRepository.saveAndFlush(userRefreshToken);
-        } else {
-            // DB에 refresh 토큰 업데이트
-            userRefreshToken.setRefreshToken(refreshToken.getToken());
-        }
+        refreshTokenStore.save(email, refreshToken.getToken(), refreshTokenExpiry);
 
 //        int cookieMaxAge = (int) refreshTokenExpiry / 60;
 //        CookieUtil.deleteCookie(request, response, REFRESH_TOKEN);
@@ -294,21 +297,19 @@ public class UserService {
     }
 
     public UserResponseDto getUserInfo(String email) {
-        User user = userRepository.findByEmail(email).orElseThrow(
-                () -> new CustomException(ErrorCode.USER_NOT_FOUND)
-        );
+        User user = currentUserResolver.getUser(email);
 
         if (user.getUsername() == null){
             throw new CustomException(ErrorCode.NEED_NICK);
         }
-        CharacterResponseDto characterResponseDto = characterService.getCharacterInfo(email);
+        CharacterResponseDto characterResponseDto = characterService.getCharacterInfo(user);
 
         List<Todo> todoList = todoRepository.findAllByTodoDate(user);
         List<TodoResponseDto> responseDtoList = new ArrayList<>();
         for (Todo t : todoList) {
             responseDtoList.add(new TodoResponseDto(t));
         }
-        return new UserResponseDto(getUser(email), characterResponseDto, responseDtoList);
+        return new UserResponseDto(user, characterResponseDto, responseDtoList);
     }
 
     @Transactional
@@ -325,6 +326,7 @@ public class UserService {
         }
 
         user.updateProfileImage(imgUrl);
+        currentUserResolver.evict(user);
 
         return new UserResponseDto(user);
     }
@@ -335,6 +337,8 @@ public class UserService {
         dupleNickCheck(nick);
 
         user.updateNick(nick);
+        currentUserResolver.evict(user);
+        userAvailabilityFilter.addNick(nick);
 
         return new UserResponseDto(user);
     }
@@ -348,25 +352,33 @@ public class UserService {
         }
 
         //기존 비밀번호 체크
-        if (!passwordEncoder.matches(passwordRequestDto.getOldPassword(), user.getPassword())) {
+        if (!passwordHashService.matches(passwordRequestDto.getOldPassword(), user.getPassword())) {
             throw new CustomException(ErrorCode.INVALID_OLD_PWD);
         }
 
-        user.updatePassword(passwordEncoder.encode(passwordRequestDto.getNewPassword()));
+        user.updatePassword(passwordHashService.encode(passwordRequestDto.getNewPassword()));
+        currentUserResolver.evict(user);
     }
 
     @Transactional
     public void deleteUser(String email){
         User user = getUser(email);
+        currentUserResolver.evict(user);
 
-        Long count = todoRepository.updateTodoByBoardIn(boardRepository.findByUser(user));
+        //탈퇴 처리만 하고 관련 데이터는 UserDeletionScheduler 에서 나눠서 삭제
+        user.markDeleted();
+        userDeletionRepository.save(new UserDeletion(user.getUserSeq()));
+        refreshTokenStore.revokeAll(email);
 
-        userRepository.delete(user);
+        //게시글은 목록 / 상세 조회에서 바로 제외되므로 검색 색인, 자동완성, 목록 캐시, 인기 순위에서도 커밋 후에 제거
+        for (Long boardId : boardRepository.findIdsByUser(user)) {
+            eventPublisher.publishEvent(BoardChangedEvent.deleted(boardId));
+        }
     }
 
 
     public SocialUserCheckResponseDto checkSocialUser(String email) {
-        User user = getUser(email);
+        User user = currentUserResolver.getUser(email);
         String msg = "";
         boolean socialUser = true;
         if (user.getPassword().equals("NO_PASS")){
@@ -379,6 +391,7 @@ public class UserService {
         return new SocialUserCheckResponseDto(msg, socialUser);
     }
 
+    // 변경 감지가 필요한 경우에 사용 (영속 상태의 User)
     private User getUser(String email) {
         return userRepository.findByEmail(email).orElseThrow(
                 () -> new CustomException(ErrorCode.USER_NOT_FOUND)
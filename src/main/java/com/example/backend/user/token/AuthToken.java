@@ -2,29 +2,43 @@ package com.example.backend.user.token;
 
 import io.jsonwebtoken.*;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.Key;
 import java.util.Date;
 
 @Slf4j
-@RequiredArgsConstructor
 public class AuthToken {
 
     @Getter
     private final String token;
     private final Key key;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 한 요청 안에서 여러 번 검증해도 파싱은 한 번만 하도록 보관
+    private Claims claims;
 
     private static final String AUTHORITIES_KEY = "role";
 
-    AuthToken(String id, Date expiry, Key key) {
+    AuthToken(String token, Key key, JwtParser parser, VerifiedTokenCache verifiedTokenCache) {
+        this.token = token;
+        this.key = key;
+        this.parser = parser;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    AuthToken(String id, Date expiry, Key key, JwtParser parser, VerifiedTokenCache verifiedTokenCache) {
         this.key = key;
+        this.parser = parser;
+        this.verifiedTokenCache = verifiedTokenCache;
         this.token = createAuthToken(id, expiry);
     }
 
-    AuthToken(String id, String name, String role, Date expiry, Key key) {
+    AuthToken(String id, String name, String role, Date expiry, Key key, JwtParser parser, VerifiedTokenCache verifiedTokenCache) {
         this.key = key;
+        this.parser = parser;
+        this.verifiedTokenCache = verifiedTokenCache;
         this.token = createAuthToken(id, role, name, expiry);
     }
 
@@ -55,12 +69,26 @@ public class AuthToken {
     }
 
     public Claims getTokenClaims() {
+        if (claims != null) {
+            return claims;
+        }
+        if (token == null) {
+            return null;
+        }
+        if (verifiedTokenCache != null) {
+            claims = verifiedTokenCache.get(token);
+            if (claims != null) {
+                return claims;
+            }
+        }
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
+            claims = parser
                     .parseClaimsJws(token)
                     .getBody();
+            if (verifiedTokenCache != null) {
+                claims = verifiedTokenCache.put(token, claims);
+            }
+            return claims;
         } catch (SecurityException e) {
             log.info("Invalid JWT signature.");
         } catch (MalformedJwtException e) {
@@ -77,9 +105,7 @@ public class AuthToken {
 
     public Claims getExpiredTokenClaims() {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
+            parser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
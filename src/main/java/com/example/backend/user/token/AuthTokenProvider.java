@@ -2,6 +2,7 @@ package com.example.backend.user.token;
 
 import com.example.backend.exception.TokenValidFailedException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -23,28 +24,38 @@ import java.util.stream.Collectors;
 public class AuthTokenProvider {
 
     private final Key key;
+    // JwtParser 는 불변 객체라 요청마다 새로 만들지 않고 공유
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
     private static final String AUTHORITIES_KEY = "role";
 
     public AuthTokenProvider(String secret) {
+        this(secret, null);
+    }
+
+    public AuthTokenProvider(String secret, VerifiedTokenCache verifiedTokenCache) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     public AuthToken createAuthToken(String id, Date expiry) {
-        return new AuthToken(id, expiry, key);
+        return new AuthToken(id, expiry, key, parser, verifiedTokenCache);
     }
 
     public AuthToken createAuthToken(String id, String role, String name, Date expiry) {
-        return new AuthToken(id, name, role, expiry, key);
+        return new AuthToken(id, name, role, expiry, key, parser, verifiedTokenCache);
     }
 
     public AuthToken convertAuthToken(String token) {
-        return new AuthToken(token, key);
+        return new AuthToken(token, key, parser, verifiedTokenCache);
     }
 
     public Authentication getAuthentication(AuthToken authToken) {
-        if(authToken.validate()) {
-
-            Claims claims = authToken.getTokenClaims();
+        Claims claims = authToken.getTokenClaims();
+        if(claims != null) {
             Collection<? extends GrantedAuthority> authorities =
                     Arrays.stream(new String[]{claims.get(AUTHORITIES_KEY).toString()})
                             .map(SimpleGrantedAuthority::new)
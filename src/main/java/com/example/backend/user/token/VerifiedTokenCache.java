@@ -0,0 +1,205 @@
+package com.example.backend.user.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 서명 검증이 끝난 JWT 의 Claims 캐시
+ * 토큰 원문 대신 SHA-256 digest 를 키로 사용하고, 토큰 만료 시각이 지나면 캐시에서도 제거된다.
+ * 같은 Claims 를 여러 요청이 같이 쓰므로 수정할 수 없는 Claims 로 감싸서 보관한다.
+ * */
+public class VerifiedTokenCache {
+
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ClaimsExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    public Claims get(String token) {
+        Claims claims = cache.getIfPresent(digest(token));
+        if (claims != null && isExpired(claims)) {
+            return null;
+        }
+        return claims;
+    }
+
+    // 서명 검증이 끝난 Claims 만 넣을 것, 반환값은 캐시에 넣은 것과 같은 수정 불가 Claims
+    public Claims put(String token, Claims claims) {
+        Claims unmodifiable = claims instanceof UnmodifiableClaims ? claims : new UnmodifiableClaims(claims);
+        if (claims.getExpiration() == null || isExpired(claims)) {
+            return unmodifiable;
+        }
+        cache.put(digest(token), unmodifiable);
+        return unmodifiable;
+    }
+
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 토큰마다 남은 유효 시간만큼만 캐시에 보관
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    // 조회만 가능한 Claims (setter / put / remove 는 UnsupportedOperationException)
+    private static class UnmodifiableClaims extends AbstractMap<String, Object> implements Claims {
+
+        private final Claims delegate;
+        private final Map<String, Object> view;
+
+        UnmodifiableClaims(Claims delegate) {
+            this.delegate = delegate;
+            this.view = Collections.unmodifiableMap(delegate);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return view.entrySet();
+        }
+
+        @Override
+        public Object get(Object key) {
+            return view.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return view.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return view.size();
+        }
+
+        @Override
+        public <T> T get(String claimName, Class<T> requiredType) {
+            T value = delegate.get(claimName, requiredType);
+            return value instanceof Date ? requiredType.cast(copy((Date) value)) : value;
+        }
+
+        @Override
+        public String getIssuer() {
+            return delegate.getIssuer();
+        }
+
+        @Override
+        public String getSubject() {
+            return delegate.getSubject();
+        }
+
+        @Override
+        public String getAudience() {
+            return delegate.getAudience();
+        }
+
+        @Override
+        public Date getExpiration() {
+            return copy(delegate.getExpiration());
+        }
+
+        @Override
+        public Date getNotBefore() {
+            return copy(delegate.getNotBefore());
+        }
+
+        @Override
+        public Date getIssuedAt() {
+            return copy(delegate.getIssuedAt());
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public Claims setIssuer(String iss) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setSubject(String sub) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setAudience(String aud) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setExpiration(Date exp) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setNotBefore(Date nbf) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setIssuedAt(Date iat) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Claims setId(String jti) {
+            throw new UnsupportedOperationException();
+        }
+
+        // Date 는 변경 가능한 객체라 복사해서 반환
+        private static Date copy(Date date) {
+            return date == null ? null : new Date(date.getTime());
+        }
+    }
+}
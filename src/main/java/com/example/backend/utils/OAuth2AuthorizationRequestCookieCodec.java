@@ -0,0 +1,164 @@
+package com.example.backend.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * OAuth2AuthorizationRequest 를 쿠키에 담기 위한 코덱
+ * Java 직렬화 대신 필요한 필드만 고정 순서의 바이너리로 기록하고, 위변조 확인용 HMAC 을 붙인다.
+ *
+ * [version(1)] [fields...] [HMAC-SHA256 앞 16 byte] -> Base64 URL (padding 없음)
+ * authorizationRequestUri 는 저장하지 않고 복원 시 나머지 필드로 다시 만든다.
+ * */
+@Slf4j
+public class OAuth2AuthorizationRequestCookieCodec {
+
+    private static final byte VERSION = 1;
+    private static final int MAC_LENGTH = 16;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec macKey;
+
+    public OAuth2AuthorizationRequestCookieCodec(String secret) {
+        // 토큰 서명 키를 그대로 쓰지 않도록 용도를 붙여서 파생
+        this.macKey = new SecretKeySpec(sha256("oauth2-authorization-request:" + secret), MAC_ALGORITHM);
+    }
+
+    public String encode(OAuth2AuthorizationRequest authorizationRequest) {
+        if (!AuthorizationGrantType.AUTHORIZATION_CODE.equals(authorizationRequest.getGrantType())) {
+            throw new IllegalArgumentException("Unsupported grant type : " + authorizationRequest.getGrantType().getValue());
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(VERSION);
+            out.writeUTF(authorizationRequest.getAuthorizationUri());
+            out.writeUTF(authorizationRequest.getClientId());
+            writeNullable(out, authorizationRequest.getRedirectUri());
+            writeNullable(out, authorizationRequest.getState());
+            out.writeShort(authorizationRequest.getScopes().size());
+            for (String scope : authorizationRequest.getScopes()) {
+                out.writeUTF(scope);
+            }
+            writeMap(out, authorizationRequest.getAdditionalParameters());
+            writeMap(out, authorizationRequest.getAttributes());
+            out.flush();
+
+            byte[] payload = bytes.toByteArray();
+            byte[] mac = mac(payload);
+            byte[] value = Arrays.copyOf(payload, payload.length + MAC_LENGTH);
+            System.arraycopy(mac, 0, value, payload.length, MAC_LENGTH);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 형식이 맞지 않거나 HMAC 이 다르면 null
+    public OAuth2AuthorizationRequest decode(String cookieValue) {
+        try {
+            byte[] value = Base64.getUrlDecoder().decode(cookieValue);
+            if (value.length <= MAC_LENGTH + 1 || value[0] != VERSION) {
+                return null;
+            }
+            byte[] payload = Arrays.copyOf(value, value.length - MAC_LENGTH);
+            byte[] mac = Arrays.copyOfRange(value, value.length - MAC_LENGTH, value.length);
+            if (!MessageDigest.isEqual(mac, Arrays.copyOf(mac(payload), MAC_LENGTH))) {
+                log.info("Invalid OAuth2 authorization request cookie signature.");
+                return null;
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            in.readByte();
+            String authorizationUri = in.readUTF();
+            String clientId = in.readUTF();
+            String redirectUri = readNullable(in);
+            String state = readNullable(in);
+            int scopeCount = in.readShort();
+            Set<String> scopes = new LinkedHashSet<>(scopeCount);
+            for (int i = 0; i < scopeCount; i++) {
+                scopes.add(in.readUTF());
+            }
+            Map<String, Object> additionalParameters = readMap(in);
+            Map<String, Object> attributes = readMap(in);
+
+            return OAuth2AuthorizationRequest.authorizationCode()
+                    .authorizationUri(authorizationUri)
+                    .clientId(clientId)
+                    .redirectUri(redirectUri)
+                    .state(state)
+                    .scopes(scopes)
+                    .additionalParameters(additionalParameters)
+                    .attributes(attributes)
+                    .build();
+        } catch (IllegalArgumentException | IOException e) {
+            log.info("Invalid OAuth2 authorization request cookie.");
+            return null;
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // 기본 Resolver 가 넣는 값(registration_id, nonce, PKCE 등)은 모두 문자열
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        out.writeShort(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeUTF(String.valueOf(entry.getValue()));
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInputStream in) throws IOException {
+        int size = in.readShort();
+        Map<String, Object> map = new LinkedHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            map.put(in.readUTF(), in.readUTF());
+        }
+        return map;
+    }
+
+    private byte[] mac(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(macKey);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
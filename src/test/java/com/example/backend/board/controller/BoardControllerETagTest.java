@@ -0,0 +1,232 @@
+package com.example.backend.board.controller;
+
+import com.example.backend.board.domain.Board;
+import com.example.backend.board.dto.response.BoardListResponseDto;
+import com.example.backend.board.dto.response.BoardResponseDto;
+import com.example.backend.board.event.BoardChangedEvent;
+import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.board.repository.BoardVersion;
+import com.example.backend.board.service.BoardDetailLoader;
+import com.example.backend.board.service.BoardFeedCache;
+import com.example.backend.board.service.BoardService;
+import com.example.backend.board.view.BoardViewCounter;
+import com.example.backend.todo.repository.TodoRepository;
+import com.example.backend.user.common.CurrentUserResolver;
+import com.example.backend.user.domain.ProviderType;
+import com.example.backend.user.domain.RoleType;
+import com.example.backend.user.domain.User;
+import com.example.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * 목록 / 상세 조회의 ETag 처리 (200 → If-None-Match → 304 → 변경 후 200)
+ * BoardService, BoardFeedCache 는 실제 객체를 쓰고 저장소와 Redis 만 mock 으로 둔다. (Redis 는 Map 으로 대신)
+ * */
+public class BoardControllerETagTest {
+
+    private static final String EMAIL = "reader@example.com";
+    private static final LocalDateTime AUTHOR_MODIFIED = LocalDateTime.of(2022, 8, 1, 10, 0);
+
+    private BoardRepository boardRepository;
+    private BoardDetailLoader boardDetailLoader;
+    private BoardViewCounter boardViewCounter;
+    private BoardFeedCache boardFeedCache;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void before() {
+        boardRepository = mock(BoardRepository.class);
+        boardDetailLoader = mock(BoardDetailLoader.class);
+        boardViewCounter = mock(BoardViewCounter.class);
+        CurrentUserResolver currentUserResolver = mock(CurrentUserResolver.class);
+        when(currentUserResolver.getUser(EMAIL)).thenReturn(user(2L, EMAIL));
+        boardFeedCache = new BoardFeedCache(redis(), new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), 3, 60);
+
+        BoardService boardService = new BoardService(
+                boardRepository, currentUserResolver, null, mock(TodoRepository.class), null, null, null, null,
+                mock(ApplicationEventPublisher.class), boardFeedCache, mock(UserRepository.class), null, null,
+                boardViewCounter, boardDetailLoader, null, null
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(new BoardController(boardService, null, null, null))
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new org.springframework.security.core.userdetails.User(EMAIL, "닉네임", Collections.emptyList()), null
+        ));
+    }
+
+    @AfterEach
+    public void after() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void 목록은_변경이_없으면_304_변경되면_200() throws Exception {
+        when(boardRepository.search(any(), any())).thenReturn(feed("스프링 스터디"));
+
+        MvcResult first = mockMvc.perform(get("/board").param("page", "0").param("size", "20"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+
+        mockMvc.perform(get("/board").param("page", "0").param("size", "20").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        // 304 는 목록을 조회하지 않음
+        verify(boardRepository, times(1)).search(any(), any());
+
+        // 게시글 수정 → 커밋 후 캐시 세대 증가
+        when(boardRepository.search(any(), any())).thenReturn(feed("스프링 스터디 (수정)"));
+        boardFeedCache.onBoardChanged(BoardChangedEvent.updated(1L, "스프링 스터디 (수정)", "내용"));
+
+        MvcResult updated = mockMvc.perform(get("/board").param("page", "0").param("size", "20").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(updated.getResponse().getHeader(HttpHeaders.ETAG)).isNotNull().isNotEqualTo(eTag);
+        assertThat(updated.getResponse().getContentAsString()).contains("스프링 스터디 (수정)");
+    }
+
+    @Test
+    public void 캐시된_목록은_같은_ETag_로_응답한다() throws Exception {
+        when(boardRepository.search(any(), any())).thenReturn(feed("스프링 스터디"));
+
+        String miss = mockMvc.perform(get("/board").param("page", "0").param("size", "20"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String hit = mockMvc.perform(get("/board").param("page", "0").param("size", "20"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(hit).isEqualTo(miss);
+        verify(boardRepository, times(1)).search(any(), any());
+    }
+
+    @Test
+    public void 상세는_변경이_없으면_304_수정되면_200() throws Exception {
+        when(boardRepository.findVersion(1L)).thenReturn(Optional.of(new BoardVersion(1L, 3L, 10L, AUTHOR_MODIFIED)));
+        when(boardDetailLoader.load(1L)).thenReturn(new BoardResponseDto(board(), false, false));
+
+        String eTag = mockMvc.perform(get("/board/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/board/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        verify(boardDetailLoader, times(1)).load(1L);
+        // 304 도 조회수는 집계
+        verify(boardViewCounter, times(2)).record(anyLong(), any());
+
+        // 수정으로 버전 증가
+        when(boardRepository.findVersion(1L)).thenReturn(Optional.of(new BoardVersion(1L, 4L, 10L, AUTHOR_MODIFIED)));
+
+        String updated = mockMvc.perform(get("/board/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updated).isNotNull().isNotEqualTo(eTag);
+    }
+
+    @Test
+    public void 작성자_프로필이_바뀌면_상세도_200() throws Exception {
+        when(boardRepository.findVersion(1L)).thenReturn(Optional.of(new BoardVersion(1L, 3L, 10L, AUTHOR_MODIFIED)));
+        when(boardDetailLoader.load(1L)).thenReturn(new BoardResponseDto(board(), false, false));
+
+        String eTag = mockMvc.perform(get("/board/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 게시글 버전은 그대로, 작성자 닉네임 / 프로필 이미지만 변경
+        when(boardRepository.findVersion(1L)).thenReturn(Optional.of(new BoardVersion(1L, 3L, 10L, AUTHOR_MODIFIED.plusMinutes(5))));
+
+        mockMvc.perform(get("/board/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    // opsForValue 의 get / getrange / set / incr 만 Map 으로 흉내
+    @SuppressWarnings("unchecked")
+    private static StringRedisTemplate redis() {
+        Map<String, String> store = new ConcurrentHashMap<>();
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(ops.get(anyString())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+        when(ops.get(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            String value = store.get(invocation.<String>getArgument(0));
+            if (value == null) {
+                return "";
+            }
+            long end = invocation.<Long>getArgument(2);
+            return value.substring(invocation.<Long>getArgument(1).intValue(), (int) Math.min(end + 1, value.length()));
+        });
+        doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(ops).set(anyString(), anyString(), any(Duration.class));
+        when(ops.increment(anyString())).thenAnswer(invocation ->
+                Long.valueOf(store.merge(invocation.getArgument(0), "1", (a, b) -> String.valueOf(Long.parseLong(a) + 1))));
+
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(ops);
+        return stringRedisTemplate;
+    }
+
+    private static SliceImpl<BoardListResponseDto> feed(String title) {
+        BoardListResponseDto dto = new BoardListResponseDto();
+        dto.setBoardId(1L);
+        dto.setTitle(title);
+        dto.setAuthorNick("작성자");
+        return new SliceImpl<>(Collections.singletonList(dto));
+    }
+
+    private static User user(Long userSeq, String email) {
+        User user = User.builder()
+                .username("사용자" + userSeq)
+                .password("password")
+                .email(email)
+                .providerType(ProviderType.LOCAL)
+                .roleType(RoleType.USER)
+                .profileImageUrl("")
+                .build();
+        user.setUserSeq(userSeq);
+        return user;
+    }
+
+    private static Board board() {
+        Board board = new Board("스프링 스터디", "매일 한 시간씩 공부", user(1L, "author@example.com"));
+        ReflectionTestUtils.setField(board, "id", 1L);
+        return board;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.board.dto.condition;
+
+import com.example.backend.board.dto.condition.BoardCursor.Mode;
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoardCursorTest {
+
+    private static final LocalDateTime CREATED_DATE = LocalDateTime.of(2022, 7, 1, 12, 30, 15, 123_000_000);
+
+    @Test
+    public void 최신순_커서를_복원한다() {
+        BoardCursor cursor = BoardCursor.decode(new BoardCursor(Mode.LATEST, null, null, CREATED_DATE, 42L).encode());
+
+        assertThat(cursor.getMode()).isEqualTo(Mode.LATEST);
+        assertThat(cursor.getSnapshot()).isNull();
+        assertThat(cursor.getScore()).isNull();
+        assertThat(cursor.getCreatedDate()).isEqualTo(CREATED_DATE);
+        assertThat(cursor.getId()).isEqualTo(42L);
+        cursor.requireMode(Mode.LATEST);
+    }
+
+    @Test
+    public void 검색_색인_커서는_점수와_snapshot_을_복원한다() {
+        String encoded = new BoardCursor(Mode.INDEX, "a1b2:17", 3.141592653589793, CREATED_DATE, 7L).encode();
+        BoardCursor cursor = BoardCursor.decode(encoded);
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(cursor.getMode()).isEqualTo(Mode.INDEX);
+        assertThat(cursor.getSnapshot()).isEqualTo("a1b2:17");
+        assertThat(cursor.getScore()).isEqualTo(3.141592653589793);
+        assertThat(cursor.getId()).isEqualTo(7L);
+        cursor.requireMode(Mode.INDEX);
+    }
+
+    @Test
+    public void 빈_문자열이면_첫_페이지() {
+        assertThat(BoardCursor.decode(null)).isNull();
+        assertThat(BoardCursor.decode("")).isNull();
+    }
+
+    @Test
+    public void 다른_조회_방식의_커서는_받지_않는다() {
+        BoardCursor views = BoardCursor.decode(new BoardCursor(Mode.VIEWS, null, 10.0, CREATED_DATE, 1L).encode());
+
+        assertInvalid(() -> views.requireMode(Mode.LATEST));
+        assertInvalid(() -> views.requireMode(Mode.MATCH));
+        // 점수가 없는 조회수 순 커서, snapshot 이 없는 검색 색인 커서
+        assertInvalid(() -> new BoardCursor(Mode.VIEWS, null, null, CREATED_DATE, 1L).requireMode(Mode.VIEWS));
+        assertInvalid(() -> new BoardCursor(Mode.INDEX, null, 1.0, CREATED_DATE, 1L).requireMode(Mode.INDEX));
+    }
+
+    @Test
+    public void 형식이_잘못된_커서는_INVALID_CURSOR() {
+        assertInvalid(() -> BoardCursor.decode("%%%"));
+        assertInvalid(() -> BoardCursor.decode(encode("LATEST||2022-07-01T12:30:15|1")));
+        assertInvalid(() -> BoardCursor.decode(encode("UNKNOWN|||2022-07-01T12:30:15|1")));
+        assertInvalid(() -> BoardCursor.decode(encode("VIEWS||abc|2022-07-01T12:30:15|1")));
+        assertInvalid(() -> BoardCursor.decode(encode("LATEST|||yesterday|1")));
+        assertInvalid(() -> BoardCursor.decode(encode("LATEST|||2022-07-01T12:30:15|")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(Runnable runnable) {
+        assertThatThrownBy(runnable::run)
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.backend.board.repository;
+
+import com.example.backend.board.domain.Board;
+import com.example.backend.board.dto.condition.BoardSearchCondition;
+import com.example.backend.board.dto.response.BoardListResponseDto;
+import com.example.backend.board.search.BoardSearchIndex;
+import com.example.backend.user.domain.ProviderType;
+import com.example.backend.user.domain.RoleType;
+import com.example.backend.user.domain.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 목록 한 페이지를 조회할 때 실행되는 SQL 수 확인 (H2, hibernate 통계)
+ * 게시글 + 작성자 컬럼을 한 번에 읽으므로 작성자 / BoardTodo 를 게시글마다 따로 읽지 않아야 한다.
+ * */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class BoardFeedQueryCountTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_STATEMENTS_PER_PAGE = 2;
+
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private EntityManager em;
+
+    // 검색어 없는 목록은 검색 색인을 사용하지 않음
+    @MockBean
+    private BoardSearchIndex boardSearchIndex;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void before() {
+        // 작성자가 여러 명이어야 작성자를 게시글마다 읽는 경우가 드러난다
+        for (int i = 0; i < 5; i++) {
+            User user = User.builder()
+                    .username("작성자" + i)
+                    .password("password")
+                    .email("author" + i + "@example.com")
+                    .providerType(ProviderType.LOCAL)
+                    .roleType(RoleType.USER)
+                    .profileImageUrl("https://example.com/" + i + ".png")
+                    .build();
+            em.persist(user);
+            for (int j = 0; j < 10; j++) {
+                em.persist(new Board("게시글 " + i + "-" + j, "본문 " + i + "-" + j, user));
+            }
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void 페이지_방식_목록은_SQL_2번_이하() {
+        Slice<BoardListResponseDto> slice = boardRepository.search(PageRequest.of(0, PAGE_SIZE), condition());
+
+        assertThat(slice.getContent()).hasSize(PAGE_SIZE);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.getContent()).allMatch(dto -> dto.getAuthorNick() != null && dto.getAuthorProfileImageUrl() != null);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    public void 커서_방식_목록도_SQL_2번_이하() {
+        BoardCursorSlice first = boardRepository.searchByCursor(PAGE_SIZE, null, condition());
+
+        assertThat(first.getContent()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+
+        statistics.clear();
+        BoardCursorSlice second = boardRepository.searchByCursor(PAGE_SIZE, first.getNextCursor(), condition());
+
+        assertThat(second.getContent()).hasSize(PAGE_SIZE);
+        assertThat(second.getContent().get(0).getBoardId()).isNotEqualTo(first.getContent().get(PAGE_SIZE - 1).getBoardId());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private static BoardSearchCondition condition() {
+        return new BoardSearchCondition(null, null, null, null, null);
+    }
+}
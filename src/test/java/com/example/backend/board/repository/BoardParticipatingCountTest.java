@@ -0,0 +1,162 @@
+package com.example.backend.board.repository;
+
+import com.example.backend.board.domain.Board;
+import com.example.backend.board.search.BoardSearchIndex;
+import com.example.backend.user.domain.ProviderType;
+import com.example.backend.user.domain.RoleType;
+import com.example.backend.user.domain.User;
+import com.example.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 첼린지 신청/취소가 동시에 몰릴 때 참여자 수 증감 쿼리가 갱신을 잃지 않는지 확인 (H2)
+ * 요청마다 별도 트랜잭션으로 실행해야 하므로 테스트 트랜잭션은 사용하지 않고 직접 정리한다.
+ * */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BoardParticipatingCountTest {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int REQUEST_COUNT = 1_000;
+
+    @Autowired
+    private BoardRepository boardRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // BoardRepositoryImpl 생성에만 필요
+    @MockBean
+    private BoardSearchIndex boardSearchIndex;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService executor;
+    private Long userSeq;
+    private Long boardId;
+
+    @BeforeEach
+    public void before() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(User.builder()
+                    .username("작성자")
+                    .password("password")
+                    .email("author@example.com")
+                    .providerType(ProviderType.LOCAL)
+                    .roleType(RoleType.USER)
+                    .profileImageUrl("")
+                    .build());
+            userSeq = user.getUserSeq();
+            boardId = boardRepository.save(new Board("스프링 스터디", "매일 한 시간씩 공부", user)).getId();
+        });
+    }
+
+    @AfterEach
+    public void after() {
+        executor.shutdownNow();
+        transactionTemplate.executeWithoutResult(status -> {
+            boardRepository.deleteById(boardId);
+            userRepository.deleteById(userSeq);
+        });
+    }
+
+    @Test
+    public void 동시에_신청하고_취소해도_갱신이_사라지지_않는다() throws Exception {
+        // 취소가 먼저 몰려도 0 에 닿지 않도록 취소 수만큼 미리 채워둔다
+        transactionTemplate.executeWithoutResult(status -> boardRepository.increaseParticipatingCount(boardId, REQUEST_COUNT));
+
+        List<Boolean> requests = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            requests.add(true);
+            requests.add(false);
+        }
+        Collections.shuffle(requests);
+        List<Integer> updated = run(requests);
+
+        assertThat(updated).allMatch(count -> count == 1);
+        Board board = findBoard();
+        assertThat(board.getParticipatingCount()).isEqualTo((long) REQUEST_COUNT);
+        // 증감 쿼리마다 버전도 하나씩
+        assertThat(board.getVersion()).isEqualTo(1L + 2L * REQUEST_COUNT);
+    }
+
+    @Test
+    public void 참여자_수보다_많이_취소해도_0_아래로_내려가지_않는다() throws Exception {
+        int initial = 100;
+        transactionTemplate.executeWithoutResult(status -> boardRepository.increaseParticipatingCount(boardId, initial));
+
+        // 취소하는 동안 계속 읽어서 음수가 보이지 않는지 확인
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong minSeen = new AtomicLong(Long.MAX_VALUE);
+        Thread monitor = new Thread(() -> {
+            while (running.get()) {
+                minSeen.accumulateAndGet(findBoard().getParticipatingCount(), Math::min);
+            }
+        });
+        monitor.start();
+
+        List<Integer> updated;
+        try {
+            updated = run(Collections.nCopies(REQUEST_COUNT, false));
+        } finally {
+            running.set(false);
+            monitor.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        // 조건(participatingCount > 0)에 맞은 UPDATE 만 반영
+        assertThat(updated.stream().mapToInt(Integer::intValue).sum()).isEqualTo(initial);
+        assertThat(findBoard().getParticipatingCount()).isZero();
+        assertThat(minSeen.get()).isGreaterThanOrEqualTo(0L);
+    }
+
+    // true 는 신청, false 는 취소, 요청마다 별도 트랜잭션으로 동시에 실행하고 UPDATE 된 행 수를 반환
+    private List<Integer> run(List<Boolean> requests) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (Boolean increase : requests) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return transactionTemplate.execute(status -> increase
+                        ? boardRepository.increaseParticipatingCount(boardId, 1)
+                        : boardRepository.decreaseParticipatingCount(boardId));
+            }));
+        }
+        start.countDown();
+
+        List<Integer> updated = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            updated.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return updated;
+    }
+
+    private Board findBoard() {
+        return transactionTemplate.execute(status -> boardRepository.findById(boardId).orElseThrow(IllegalStateException::new));
+    }
+}
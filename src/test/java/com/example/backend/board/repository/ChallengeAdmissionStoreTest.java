@@ -0,0 +1,134 @@
+package com.example.backend.board.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 첼린지 신청 대기열 Lua 스크립트 (바로 처리 / 대기 / 이미 대기 중 / 가득 참 / 처리 후 제거)
+ * 스크립트를 실제로 실행해야 하므로 embedded redis 를 띄워서 확인한다.
+ * */
+public class ChallengeAdmissionStoreTest {
+
+    private static final int PORT = 16379;
+    private static final Long BOARD_ID = 1L;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    @BeforeAll
+    public static void beforeAll() {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", PORT));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    public void before() {
+        stringRedisTemplate.getRequiredConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    public void 몰리지_않으면_바로_처리한다() {
+        ChallengeAdmissionStore store = store(100, 0);
+
+        assertThat(store.tryEnqueue(BOARD_ID, 10L)).isEqualTo(ChallengeAdmissionStore.Admission.DIRECT);
+        assertThat(store.getStatus(BOARD_ID, 10L)).isNull();
+        assertThat(store.findPendingBoards()).isEmpty();
+    }
+
+    @Test
+    public void 몰리면_대기열에_넣고_이후_신청도_순서대로_대기한다() {
+        // 초당 0 건 초과면 대기 → 첫 신청부터 대기열로
+        assertThat(store(0, 0).tryEnqueue(BOARD_ID, 10L)).isEqualTo(ChallengeAdmissionStore.Admission.QUEUED);
+
+        // 몰리지 않아도 앞선 대기가 있으면 뒤에 줄 선다
+        ChallengeAdmissionStore store = store(100, 0);
+        assertThat(store.tryEnqueue(BOARD_ID, 11L)).isEqualTo(ChallengeAdmissionStore.Admission.QUEUED);
+
+        assertThat(store.peek(BOARD_ID, 10)).containsExactly(10L, 11L);
+        assertThat(store.getStatus(BOARD_ID, 10L)).isEqualTo(ChallengeAdmissionStore.QUEUED);
+        assertThat(store.findPendingBoards()).containsExactly(BOARD_ID);
+    }
+
+    @Test
+    public void 이미_대기_중이면_다시_넣지_않는다() {
+        ChallengeAdmissionStore store = store(0, 0);
+
+        assertThat(store.tryEnqueue(BOARD_ID, 10L)).isEqualTo(ChallengeAdmissionStore.Admission.QUEUED);
+        assertThat(store.tryEnqueue(BOARD_ID, 10L)).isEqualTo(ChallengeAdmissionStore.Admission.ALREADY_QUEUED);
+
+        assertThat(store.peek(BOARD_ID, 10)).containsExactly(10L);
+    }
+
+    @Test
+    public void 대기열이_가득_차면_거절한다() {
+        ChallengeAdmissionStore store = store(0, 2);
+
+        assertThat(store.tryEnqueue(BOARD_ID, 10L)).isEqualTo(ChallengeAdmissionStore.Admission.QUEUED);
+        assertThat(store.tryEnqueue(BOARD_ID, 11L)).isEqualTo(ChallengeAdmissionStore.Admission.QUEUED);
+        assertThat(store.tryEnqueue(BOARD_ID, 12L)).isEqualTo(ChallengeAdmissionStore.Admission.FULL);
+        // 이미 대기 중인 신청은 가득 차도 대기 중으로 응답
+        assertThat(store.tryEnqueue(BOARD_ID, 10L)).isEqualTo(ChallengeAdmissionStore.Admission.ALREADY_QUEUED);
+
+        assertThat(store.peek(BOARD_ID, 10)).containsExactly(10L, 11L);
+        assertThat(store.getStatus(BOARD_ID, 12L)).isNull();
+    }
+
+    @Test
+    public void 처리한_만큼_제거하고_비면_대기_게시글에서_뺀다() {
+        ChallengeAdmissionStore store = store(0, 0);
+        for (Long userSeq : Arrays.asList(10L, 11L, 12L)) {
+            store.tryEnqueue(BOARD_ID, userSeq);
+        }
+
+        Map<Long, String> results = new LinkedHashMap<>();
+        results.put(10L, ChallengeAdmissionStore.APPLIED);
+        results.put(11L, ChallengeAdmissionStore.FAILED_PREFIX + "ALREADY_APPLY_CHALLENGE");
+        store.complete(BOARD_ID, results, 2);
+
+        assertThat(store.peek(BOARD_ID, 10)).containsExactly(12L);
+        assertThat(store.getStatus(BOARD_ID, 10L)).isEqualTo(ChallengeAdmissionStore.APPLIED);
+        assertThat(store.getStatus(BOARD_ID, 11L)).isEqualTo(ChallengeAdmissionStore.FAILED_PREFIX + "ALREADY_APPLY_CHALLENGE");
+        assertThat(store.findPendingBoards()).containsExactly(BOARD_ID);
+
+        store.complete(BOARD_ID, Collections.singletonMap(12L, ChallengeAdmissionStore.APPLIED), 1);
+
+        assertThat(store.peek(BOARD_ID, 10)).isEmpty();
+        assertThat(store.findPendingBoards()).isEmpty();
+    }
+
+    @Test
+    public void 맨_앞_신청의_실패_횟수는_신청마다_따로_센다() {
+        ChallengeAdmissionStore store = store(0, 0);
+
+        assertThat(store.recordFailure(BOARD_ID, 10L)).isEqualTo(1L);
+        assertThat(store.recordFailure(BOARD_ID, 10L)).isEqualTo(2L);
+        assertThat(store.recordFailure(BOARD_ID, 11L)).isEqualTo(1L);
+    }
+
+    private static ChallengeAdmissionStore store(int burstThreshold, int queueCapacity) {
+        return new ChallengeAdmissionStore(stringRedisTemplate, true, burstThreshold, queueCapacity, 600);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.backend.board.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/*
+ * BoardTrendingStore 와 같은 방식(기준 시각 기준 가중치 + 주기적인 rebase)으로 점수를 쌓았을 때
+ * 매 순간 모든 신청을 직접 감소시킨 점수와 순서 / 비율이 같은지 확인
+ * */
+public class TrendingScoreTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final long HALF_LIFE = 6 * HOUR;
+
+    // Redis ZSET / 기준 시각 대신 사용
+    private Map<Long, Double> scores;
+    private long epoch;
+
+    @BeforeEach
+    public void before() {
+        scores = new HashMap<>();
+        epoch = 0;
+    }
+
+    @Test
+    public void rebase_전후로_순서가_같다() {
+        join(1L, 10, 0);
+        join(2L, 4, 10 * HOUR);
+        join(3L, 1, 11 * HOUR);
+        List<Long> before = ranking();
+
+        rebase(12 * HOUR);
+
+        assertThat(ranking()).isEqualTo(before);
+        // 2 : 4 * 2^(-2/6), 1 : 10 * 2^(-12/6), 3 : 2^(-1/6)
+        assertThat(ranking()).containsExactly(2L, 1L, 3L);
+        assertThat(scores.get(1L)).isCloseTo(10 * Math.pow(2, -2), within(1e-9));
+    }
+
+    @Test
+    public void 주기적으로_rebase_해도_직접_감소시킨_점수와_같다() {
+        long[][] joins = {{1L, 0}, {1L, 2 * HOUR}, {2L, 5 * HOUR}, {3L, 20 * HOUR}, {2L, 30 * HOUR}, {1L, 47 * HOUR}};
+        int next = 0;
+        for (long now = HOUR; now <= 48 * HOUR; now += HOUR) {
+            while (next < joins.length && joins[next][1] < now) {
+                join(joins[next][0], 1, joins[next][1]);
+                next++;
+            }
+            rebase(now);
+        }
+
+        long now = 48 * HOUR;
+        for (long boardId = 1; boardId <= 3; boardId++) {
+            double expected = 0;
+            for (long[] join : joins) {
+                if (join[0] == boardId) {
+                    expected += Math.pow(2, (double) (join[1] - now) / HALF_LIFE);
+                }
+            }
+            assertThat(scores.get(boardId)).isCloseTo(expected, within(1e-9));
+        }
+    }
+
+    @Test
+    public void 늦은_취소는_원래_신청의_감소된_가중치만_뺀다() {
+        // 1 번은 오래전 신청 하나와 최근 신청 하나, 2 번은 최근 신청 하나
+        join(1L, 1, 0);
+        join(1L, 1, 11 * HOUR + HOUR / 2);
+        join(2L, 1, 11 * HOUR);
+        rebase(12 * HOUR);
+
+        // 12 시간 뒤 오래전 신청을 취소
+        cancel(1L, 0);
+
+        assertThat(scores.get(1L)).isCloseTo(Math.pow(2, -0.5 / 6), within(1e-9));
+        assertThat(ranking()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void 취소는_0_아래로_내리지_않는다() {
+        join(1L, 1, 0);
+        rebase(12 * HOUR);
+
+        // 신청 시각을 모르면 현재 시각 가중치로 빼므로 남은 점수보다 클 수 있음
+        cancel(1L, 12 * HOUR);
+
+        assertThat(scores.get(1L)).isZero();
+    }
+
+    @Test
+    public void 같은_시각이면_기준_시각과_상관없이_같은_점수() {
+        assertThat(TrendingScore.weight(3, 5 * HOUR, 5 * HOUR, HALF_LIFE)).isEqualTo(3.0);
+        assertThat(TrendingScore.weight(1, 0, HALF_LIFE, HALF_LIFE)).isEqualTo(0.5);
+        assertThat(TrendingScore.weight(-1, 2 * HALF_LIFE, 0, HALF_LIFE)).isEqualTo(-4.0);
+        assertThat(TrendingScore.rebaseFactor(0, HALF_LIFE, HALF_LIFE)).isEqualTo(0.5);
+        assertThat(TrendingScore.weight(1, 7 * HOUR, 0, HALF_LIFE) * TrendingScore.rebaseFactor(0, 3 * HOUR, HALF_LIFE))
+                .isCloseTo(TrendingScore.weight(1, 7 * HOUR, 3 * HOUR, HALF_LIFE), within(1e-12));
+    }
+
+    private void join(Long boardId, long count, long at) {
+        scores.merge(boardId, TrendingScore.weight(count, at, epoch, HALF_LIFE), Double::sum);
+    }
+
+    // ADD_SCRIPT 와 같이 남은 점수보다 많이 빼지 않음
+    private void cancel(Long boardId, long joinedAt) {
+        double weight = TrendingScore.weight(-1, joinedAt, epoch, HALF_LIFE);
+        scores.computeIfPresent(boardId, (id, score) -> Math.max(score + weight, 0));
+    }
+
+    private void rebase(long now) {
+        double factor = TrendingScore.rebaseFactor(epoch, now, HALF_LIFE);
+        scores.replaceAll((id, score) -> score * factor);
+        epoch = now;
+    }
+
+    private List<Long> ranking() {
+        List<Long> ranking = new ArrayList<>(scores.keySet());
+        ranking.sort((a, b) -> Double.compare(scores.get(b), scores.get(a)));
+        return ranking;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.backend.board.scheduler;
+
+import com.example.backend.board.repository.ChallengeAdmissionStore;
+import com.example.backend.board.service.BoardService;
+import com.example.backend.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+ * 대기열 처리 Worker 의 재시도 한도
+ * 맨 앞 신청이 계속 실패하면 max-attempts 번째에 그 신청만 실패로 남기고 대기열에서 뺀다.
+ * */
+public class ChallengeAdmissionSchedulerTest {
+
+    private static final Long BOARD_ID = 1L;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private ChallengeAdmissionStore challengeAdmissionStore;
+    private BoardService boardService;
+    private ChallengeAdmissionScheduler challengeAdmissionScheduler;
+
+    @BeforeEach
+    public void before() {
+        challengeAdmissionStore = mock(ChallengeAdmissionStore.class);
+        boardService = mock(BoardService.class);
+        challengeAdmissionScheduler = new ChallengeAdmissionScheduler(challengeAdmissionStore, boardService, 100, MAX_ATTEMPTS);
+        when(challengeAdmissionStore.findPendingBoards()).thenReturn(Collections.singletonList(BOARD_ID));
+        when(challengeAdmissionStore.peek(BOARD_ID, 100)).thenReturn(Arrays.asList(10L, 11L));
+    }
+
+    @Test
+    public void 처리하면_결과를_남기고_처리한_만큼_제거한다() {
+        Map<Long, ErrorCode> errors = new LinkedHashMap<>();
+        errors.put(10L, null);
+        errors.put(11L, ErrorCode.ALREADY_APPLY_CHALLENGE);
+        when(boardService.applyChallengeBatch(BOARD_ID, Arrays.asList(10L, 11L))).thenReturn(errors);
+
+        challengeAdmissionScheduler.drain();
+
+        Map<Long, String> results = new LinkedHashMap<>();
+        results.put(10L, ChallengeAdmissionStore.APPLIED);
+        results.put(11L, ChallengeAdmissionStore.FAILED_PREFIX + "ALREADY_APPLY_CHALLENGE");
+        verify(challengeAdmissionStore, times(1)).complete(BOARD_ID, results, 2);
+        verify(challengeAdmissionStore, never()).recordFailure(any(), any());
+    }
+
+    @Test
+    public void 한도_전까지는_같은_신청을_다시_시도한다() {
+        when(boardService.applyChallengeBatch(eq(BOARD_ID), any())).thenThrow(new IllegalStateException("db down"));
+        when(challengeAdmissionStore.recordFailure(BOARD_ID, 10L)).thenReturn(1L, 2L);
+
+        challengeAdmissionScheduler.drain();
+        challengeAdmissionScheduler.drain();
+
+        verify(challengeAdmissionStore, times(2)).recordFailure(BOARD_ID, 10L);
+        verify(challengeAdmissionStore, never()).complete(any(), anyMap(), anyInt());
+    }
+
+    @Test
+    public void 한도에_닿으면_맨_앞_신청만_실패로_남기고_제거한다() {
+        when(boardService.applyChallengeBatch(eq(BOARD_ID), any())).thenThrow(new IllegalStateException("db down"));
+        when(challengeAdmissionStore.recordFailure(BOARD_ID, 10L)).thenReturn(1L, 2L, 3L);
+
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            challengeAdmissionScheduler.drain();
+        }
+
+        verify(challengeAdmissionStore, times(1)).complete(
+                BOARD_ID,
+                Collections.singletonMap(10L, ChallengeAdmissionStore.FAILED_PREFIX + ErrorCode.CHALLENGE_APPLY_FAILED.name()),
+                1
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.backend.board.search;
+
+import com.example.backend.board.dto.SubEnum;
+import com.querydsl.core.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.backend.board.domain.QBoard.board;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+ * BoardSearchRebuilder 가 나눠서 넣는 재생성 과정 (교체 시점 / 재생성 중 변경 / 실패 시 유지)
+ * */
+public class BoardSearchIndexTest {
+
+    private BoardSearchIndex boardSearchIndex;
+
+    @BeforeEach
+    public void before() {
+        boardSearchIndex = new BoardSearchIndex(1_000, 600);
+    }
+
+    @Test
+    public void 재생성이_끝나야_새_색인으로_검색한다() {
+        boardSearchIndex.beginRebuild();
+        boardSearchIndex.addRebuilt(Arrays.asList(row(1L, "스프링 스터디"), row(2L, "자바 스터디")));
+
+        assertThat(boardSearchIndex.isReady()).isFalse();
+        assertThat(boardIds(boardSearchIndex.search("스터디", SubEnum.title))).isEmpty();
+
+        assertThat(boardSearchIndex.finishRebuild(true)).isEqualTo(2);
+
+        assertThat(boardSearchIndex.isReady()).isTrue();
+        assertThat(boardIds(boardSearchIndex.search("스터디", SubEnum.title))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    public void 재생성_중_변경이_읽은_값보다_우선한다() {
+        boardSearchIndex.beginRebuild();
+        // 읽기 전에 수정 / 삭제가 먼저 반영된 경우
+        boardSearchIndex.index(1L, "스프링 스터디 (수정)", "");
+        boardSearchIndex.remove(2L);
+        boardSearchIndex.addRebuilt(Arrays.asList(row(1L, "스프링 스터디"), row(2L, "자바 스터디")));
+        boardSearchIndex.finishRebuild(true);
+
+        assertThat(boardIds(boardSearchIndex.search("수정", SubEnum.title))).containsExactly(1L);
+        assertThat(boardIds(boardSearchIndex.search("자바", SubEnum.title))).isEmpty();
+    }
+
+    @Test
+    public void 재생성에_실패하면_기존_색인을_유지한다() {
+        boardSearchIndex.index(1L, "스프링 스터디", "");
+
+        boardSearchIndex.beginRebuild();
+        boardSearchIndex.addRebuilt(Arrays.asList(row(2L, "자바 스터디")));
+        boardSearchIndex.finishRebuild(false);
+
+        assertThat(boardSearchIndex.isReady()).isFalse();
+        assertThat(boardIds(boardSearchIndex.search("스터디", SubEnum.title))).containsExactly(1L);
+    }
+
+    private static Tuple row(Long boardId, String title) {
+        Tuple row = mock(Tuple.class);
+        when(row.get(board.id)).thenReturn(boardId);
+        when(row.get(board.title)).thenReturn(title);
+        when(row.get(board.content)).thenReturn("");
+        return row;
+    }
+
+    private static List<Long> boardIds(SearchHits hits) {
+        List<Long> boardIds = new ArrayList<>();
+        for (int i = 0; i < hits.size(); i++) {
+            boardIds.add(hits.boardId(i));
+        }
+        return boardIds;
+    }
+}
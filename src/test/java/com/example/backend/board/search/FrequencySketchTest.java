@@ -0,0 +1,59 @@
+package com.example.backend.board.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FrequencySketchTest {
+
+    @Test
+    public void 넣은_적_없는_값은_0() {
+        FrequencySketch sketch = new FrequencySketch(64);
+
+        assertThat(sketch.frequency("스프링")).isZero();
+    }
+
+    @Test
+    public void 증가시킨_뒤의_빈도를_반환한다() {
+        FrequencySketch sketch = new FrequencySketch(64);
+
+        assertThat(sketch.increment("스프링")).isEqualTo(1);
+        assertThat(sketch.increment("스프링")).isEqualTo(2);
+        assertThat(sketch.frequency("스프링")).isEqualTo(2);
+    }
+
+    // 충돌이 있어도 실제 빈도보다 작게 추정하지 않고, 대부분은 정확해야 함
+    @Test
+    public void 빈도를_작게_추정하지_않는다() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+        int itemCount = 300;
+        for (int i = 0; i < itemCount; i++) {
+            for (int count = 0; count <= i % 10; count++) {
+                sketch.increment("keyword-" + i);
+            }
+        }
+
+        int exact = 0;
+        for (int i = 0; i < itemCount; i++) {
+            int frequency = sketch.frequency("keyword-" + i);
+            assertThat(frequency).isGreaterThanOrEqualTo(i % 10 + 1);
+            if (frequency == i % 10 + 1) {
+                exact++;
+            }
+        }
+        assertThat(exact).isGreaterThan(itemCount * 9 / 10);
+    }
+
+    @Test
+    public void 증가_횟수가_sampleSize_에_닿으면_절반으로_줄인다() {
+        // width 64 -> sampleSize 640
+        FrequencySketch sketch = new FrequencySketch(64);
+        for (int i = 0; i < 639; i++) {
+            sketch.increment("스프링");
+        }
+        assertThat(sketch.frequency("스프링")).isEqualTo(639);
+
+        assertThat(sketch.increment("스프링")).isEqualTo(640);
+        assertThat(sketch.frequency("스프링")).isEqualTo(320);
+    }
+}
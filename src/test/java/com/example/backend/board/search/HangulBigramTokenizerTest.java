@@ -0,0 +1,61 @@
+package com.example.backend.board.search;
+
+import com.example.backend.board.search.HangulBigramTokenizer.Token;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HangulBigramTokenizerTest {
+
+    @Test
+    public void 한글은_두_글자씩_자른다() {
+        List<Token> tokens = HangulBigramTokenizer.tokenize("스프링부트");
+
+        assertThat(terms(tokens)).containsExactly("스프", "프링", "링부", "부트");
+        assertThat(tokens).allMatch(Token::isHangul);
+    }
+
+    @Test
+    public void 한_글자_한글은_그대로_사용한다() {
+        List<Token> tokens = HangulBigramTokenizer.tokenize("책 읽기");
+
+        assertThat(terms(tokens)).containsExactly("책", "읽기");
+        assertThat(tokens).allMatch(Token::isHangul);
+    }
+
+    @Test
+    public void 영문과_숫자는_단어_단위로_소문자로_자른다() {
+        List<Token> tokens = HangulBigramTokenizer.tokenize("Spring5 JPA-공부");
+
+        assertThat(terms(tokens)).containsExactly("spring5", "jpa", "공부");
+        assertThat(tokens.get(0).isHangul()).isFalse();
+        assertThat(tokens.get(2).isHangul()).isTrue();
+    }
+
+    @Test
+    public void 한글과_영문이_붙어있으면_나눠서_자른다() {
+        assertThat(terms(HangulBigramTokenizer.tokenize("자바java입문"))).containsExactly("자바", "java", "입문");
+    }
+
+    @Test
+    public void 자모가_분리된_입력은_NFC_로_합친다() {
+        // "한글" 을 초성 / 중성 / 종성으로 분리한 NFD 문자열
+        String decomposed = "\u1112\u1161\u11ab\u1100\u1173\u11af";
+
+        assertThat(terms(HangulBigramTokenizer.tokenize(decomposed))).containsExactly("한글");
+    }
+
+    @Test
+    public void 빈_문자열과_null_은_빈_목록() {
+        assertThat(HangulBigramTokenizer.tokenize(null)).isEmpty();
+        assertThat(HangulBigramTokenizer.tokenize("")).isEmpty();
+        assertThat(HangulBigramTokenizer.tokenize("!? ...")).isEmpty();
+    }
+
+    private static List<String> terms(List<Token> tokens) {
+        return tokens.stream().map(Token::getTerm).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.backend.board.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class InvertedIndexTest {
+
+    private static final int[] ALL_FIELDS = {InvertedIndex.TITLE, InvertedIndex.CONTENT};
+    private static final double[] WEIGHTS = {2.0, 1.0};
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    public void before() {
+        index = new InvertedIndex();
+        index.add(1, "스프링 부트 스터디", "매일 한 시간씩 공부");
+        index.add(2, "자바 스터디", "스프링 입문 책 읽기");
+        index.add(3, "운동 첼린지", "매일 만보 걷기");
+        index.add(4, "Spring Boot 공부", "JPA 와 QueryDSL");
+    }
+
+    @Test
+    public void 모든_검색어가_포함된_문서만_찾는다() {
+        assertThat(boardIds(search("스프링 스터디", ALL_FIELDS))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(boardIds(search("스프링 운동", ALL_FIELDS))).isEmpty();
+        assertThat(boardIds(search("없는단어", ALL_FIELDS))).isEmpty();
+    }
+
+    @Test
+    public void 제목에_포함된_문서가_내용에_포함된_문서보다_앞선다() {
+        SearchHits hits = search("스프링", ALL_FIELDS);
+
+        assertThat(boardIds(hits)).containsExactly(1L, 2L);
+        assertThat(hits.score(0)).isGreaterThan(hits.score(1));
+    }
+
+    @Test
+    public void 검색_필드를_지정하면_다른_필드는_보지_않는다() {
+        assertThat(boardIds(search("스프링", new int[]{InvertedIndex.TITLE}))).containsExactly(1L);
+        assertThat(boardIds(search("스프링", new int[]{InvertedIndex.CONTENT}))).containsExactly(2L);
+    }
+
+    @Test
+    public void 영문은_앞부분이_일치하는_단어도_찾는다() {
+        assertThat(boardIds(search("spr", ALL_FIELDS))).containsExactly(4L);
+        assertThat(boardIds(search("query", ALL_FIELDS))).containsExactly(4L);
+    }
+
+    @Test
+    public void 삭제된_문서는_검색되지_않는다() {
+        index.remove(1);
+
+        assertThat(index.contains(1)).isFalse();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(boardIds(search("스프링", ALL_FIELDS))).containsExactly(2L);
+    }
+
+    @Test
+    public void 수정하면_이전_내용으로는_검색되지_않는다() {
+        index.add(3, "독서 첼린지", "한 달에 책 두 권");
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(boardIds(search("운동", ALL_FIELDS))).isEmpty();
+        assertThat(boardIds(search("독서", ALL_FIELDS))).containsExactly(3L);
+    }
+
+    @Test
+    public void 같은_점수면_boardId_내림차순() {
+        InvertedIndex same = new InvertedIndex();
+        same.add(10, "스터디", "");
+        same.add(30, "스터디", "");
+        same.add(20, "스터디", "");
+
+        SearchHits hits = same.search(HangulBigramTokenizer.tokenize("스터디"), ALL_FIELDS, WEIGHTS);
+
+        assertThat(boardIds(hits)).containsExactly(30L, 20L, 10L);
+        assertThat(hits.indexAfter(hits.score(0), 30)).isEqualTo(1);
+    }
+
+    // posting 이 가장 적은 검색어로 후보를 정해도 결과는 전체 문서를 보는 것과 같아야 함
+    @Test
+    public void 후보를_좁혀도_결과는_같다() {
+        InvertedIndex large = new InvertedIndex();
+        for (long boardId = 1; boardId <= 500; boardId++) {
+            String title = "스터디 모집 " + boardId;
+            String content = boardId % 7 == 0 ? "스프링 스터디 같이 해요" : "공부 같이 해요";
+            large.add(boardId, title, content);
+        }
+        for (long boardId = 1; boardId <= 500; boardId += 3) {
+            large.remove(boardId);
+        }
+
+        SearchHits hits = large.search(HangulBigramTokenizer.tokenize("스프링 스터디"), ALL_FIELDS, WEIGHTS);
+
+        List<Long> expected = new ArrayList<>();
+        for (long boardId = 500; boardId >= 1; boardId--) {
+            if (boardId % 7 == 0 && boardId % 3 != 1) {
+                expected.add(boardId);
+            }
+        }
+        assertThat(boardIds(hits)).containsExactlyInAnyOrderElementsOf(expected);
+        for (int i = 1; i < hits.size(); i++) {
+            assertThat(hits.score(i - 1)).isGreaterThanOrEqualTo(hits.score(i));
+        }
+    }
+
+    // 삭제된 posting 은 df 에 포함되지 않으므로, 남은 문서만 새로 넣은 색인과 점수가 같아야 함
+    @Test
+    public void 삭제한_문서는_idf_에_영향을_주지_않는다() {
+        InvertedIndex removed = new InvertedIndex();
+        for (long boardId = 1; boardId <= 10; boardId++) {
+            removed.add(boardId, boardId == 10 ? "자바 스터디" : "스프링 스터디", "");
+        }
+        for (long boardId = 2; boardId <= 9; boardId++) {
+            removed.remove(boardId);
+        }
+        InvertedIndex fresh = new InvertedIndex();
+        fresh.add(1, "스프링 스터디", "");
+        fresh.add(10, "자바 스터디", "");
+
+        SearchHits removedHits = removed.search(HangulBigramTokenizer.tokenize("스프링"), ALL_FIELDS, WEIGHTS);
+        SearchHits freshHits = fresh.search(HangulBigramTokenizer.tokenize("스프링"), ALL_FIELDS, WEIGHTS);
+
+        assertThat(boardIds(removedHits)).containsExactly(1L);
+        assertThat(removedHits.score(0)).isCloseTo(freshHits.score(0), within(1e-9));
+    }
+
+    private SearchHits search(String keyword, int[] fieldIds) {
+        double[] weights = fieldIds.length == ALL_FIELDS.length ? WEIGHTS : new double[]{1.0};
+        return index.search(HangulBigramTokenizer.tokenize(keyword), fieldIds, weights);
+    }
+
+    private static List<Long> boardIds(SearchHits hits) {
+        List<Long> boardIds = new ArrayList<>();
+        for (int i = 0; i < hits.size(); i++) {
+            boardIds.add(hits.boardId(i));
+        }
+        return boardIds;
+    }
+}
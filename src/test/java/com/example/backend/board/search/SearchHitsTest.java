@@ -0,0 +1,51 @@
+package com.example.backend.board.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchHitsTest {
+
+    // 점수 내림차순, 같은 점수면 boardId 내림차순
+    private final SearchHits hits = new SearchHits(
+            new long[]{7, 9, 5, 3, 8, 2},
+            new double[]{3.0, 2.0, 2.0, 2.0, 1.0, 1.0}
+    );
+
+    @Test
+    public void 마지막으로_받은_결과_다음_위치를_찾는다() {
+        assertThat(hits.indexAfter(3.0, 7)).isEqualTo(1);
+        assertThat(hits.indexAfter(2.0, 9)).isEqualTo(2);
+        assertThat(hits.indexAfter(2.0, 5)).isEqualTo(3);
+        assertThat(hits.indexAfter(2.0, 3)).isEqualTo(4);
+        assertThat(hits.indexAfter(1.0, 2)).isEqualTo(6);
+    }
+
+    @Test
+    public void 그_사이에_삭제된_결과여도_정렬_순서로_다음_위치를_찾는다() {
+        // (2.0, 6) 은 결과에 없지만 (2.0, 9) 와 (2.0, 5) 사이
+        assertThat(hits.indexAfter(2.0, 6)).isEqualTo(2);
+        // 모든 결과보다 앞
+        assertThat(hits.indexAfter(10.0, 1)).isEqualTo(0);
+        // 모든 결과보다 뒤
+        assertThat(hits.indexAfter(0.5, 100)).isEqualTo(hits.size());
+    }
+
+    @Test
+    public void 빈_결과() {
+        SearchHits empty = new SearchHits(new long[0], new double[0]);
+
+        assertThat(empty.indexAfter(1.0, 1)).isEqualTo(0);
+    }
+
+    @Test
+    public void generation_을_붙여도_결과는_같다() {
+        SearchHits tagged = hits.withGeneration("a:1");
+
+        assertThat(tagged.getGeneration()).isEqualTo("a:1");
+        assertThat(hits.getGeneration()).isNull();
+        assertThat(tagged.size()).isEqualTo(hits.size());
+        assertThat(tagged.boardId(2)).isEqualTo(5);
+        assertThat(tagged.score(2)).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.backend.board.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TitleTrieTest {
+
+    private TitleTrie trie;
+
+    @BeforeEach
+    public void before() {
+        trie = new TitleTrie();
+        trie.add("spring", 3);
+        trie.add("spa", 5);
+        trie.add("sql", 1);
+        trie.add("java", 10);
+        trie.add("스프링", 2);
+        trie.add("스터디", 4);
+    }
+
+    @Test
+    public void 가중치가_높은_단어부터_찾는다() {
+        assertThat(trie.top("s", 2)).containsExactly("spa", "spring");
+        assertThat(trie.top("s", 10)).containsExactly("spa", "spring", "sql");
+        assertThat(trie.top("스", 10)).containsExactly("스터디", "스프링");
+        assertThat(trie.top("", 1)).containsExactly("java");
+    }
+
+    @Test
+    public void 없는_접두어나_limit_0_이면_빈_목록() {
+        assertThat(trie.top("python", 5)).isEmpty();
+        assertThat(trie.top("s", 0)).isEmpty();
+    }
+
+    @Test
+    public void 가중치를_더하면_순서가_바뀐다() {
+        trie.add("sql", 10);
+
+        assertThat(trie.top("s", 3)).containsExactly("sql", "spa", "spring");
+    }
+
+    @Test
+    public void 가중치가_0_이하가_되면_제거한다() {
+        trie.add("spa", -5);
+
+        assertThat(trie.top("sp", 10)).containsExactly("spring");
+
+        // 하위 단어가 남아있는 노드는 그대로 두고, 없는 단어를 빼도 변화 없음
+        trie.add("spring", -10);
+        trie.add("spark", -1);
+        assertThat(trie.top("sp", 10)).isEmpty();
+        assertThat(trie.top("s", 10)).containsExactly("sql");
+    }
+
+    @Test
+    public void 같은_가중치면_짧은_단어_다음_사전_순() {
+        TitleTrie same = new TitleTrie();
+        same.add("ab", 2);
+        same.add("aa", 2);
+        same.add("a", 2);
+        same.add("b", 2);
+
+        assertThat(same.top("", 4)).containsExactly("a", "aa", "ab", "b");
+    }
+
+    @Test
+    public void 접두어와_같은_단어도_포함한다() {
+        trie.add("spr", 1);
+
+        assertThat(trie.top("spr", 10)).containsExactly("spring", "spr");
+    }
+}
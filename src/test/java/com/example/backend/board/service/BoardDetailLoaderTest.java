@@ -0,0 +1,165 @@
+package com.example.backend.board.service;
+
+import com.example.backend.board.domain.Board;
+import com.example.backend.board.dto.response.BoardResponseDto;
+import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.user.domain.ProviderType;
+import com.example.backend.user.domain.RoleType;
+import com.example.backend.user.domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+ * 같은 게시글 동시 조회(stampede) 시 DB 조회가 한 번으로 묶이는지 확인
+ * 첫 조회를 latch 로 붙잡아 두고 나머지 요청이 모두 기다리는 상태가 된 뒤에 풀어준다.
+ * */
+public class BoardDetailLoaderTest {
+
+    private static final int REQUEST_COUNT = 50;
+
+    private BoardRepository boardRepository;
+    private MeterRegistry meterRegistry;
+    private BoardDetailLoader boardDetailLoader;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void before() {
+        boardRepository = mock(BoardRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        boardDetailLoader = new BoardDetailLoader(boardRepository, transactionManager, meterRegistry);
+        executor = Executors.newFixedThreadPool(REQUEST_COUNT);
+    }
+
+    @AfterEach
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void 동시에_조회하면_DB_는_한_번만_조회한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(boardRepository.findById(1L)).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.of(board());
+        });
+
+        List<Future<BoardResponseDto>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            futures.add(executor.submit(() -> boardDetailLoader.load(1L)));
+        }
+        awaitCoalesced(REQUEST_COUNT - 1);
+        release.countDown();
+
+        BoardResponseDto first = futures.get(0).get(10, TimeUnit.SECONDS);
+        for (Future<BoardResponseDto> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(first.getTitle()).isEqualTo("스프링 스터디");
+        assertThat(first.isParticipating()).isFalse();
+        verify(boardRepository, times(1)).findById(1L);
+        assertThat(count("loaded")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(REQUEST_COUNT - 1);
+    }
+
+    @Test
+    public void 조회가_끝나면_다시_DB_에서_조회한다() {
+        when(boardRepository.findById(1L)).thenAnswer(invocation -> Optional.of(board()));
+
+        BoardResponseDto first = boardDetailLoader.load(1L);
+        BoardResponseDto second = boardDetailLoader.load(1L);
+
+        assertThat(second).isNotSameAs(first);
+        verify(boardRepository, times(2)).findById(1L);
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    public void 먼저_조회한_요청의_예외를_기다린_요청에도_전달한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(boardRepository.findById(2L)).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        List<Future<BoardResponseDto>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            futures.add(executor.submit(() -> boardDetailLoader.load(2L)));
+        }
+        awaitCoalesced(REQUEST_COUNT - 1);
+        release.countDown();
+
+        for (Future<BoardResponseDto> future : futures) {
+            assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .getCause()
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getCode())
+                    .isEqualTo(ErrorCode.BOARD_NOT_FOUND);
+        }
+        verify(boardRepository, times(1)).findById(2L);
+    }
+
+    @Test
+    public void 탈퇴한_회원의_게시글은_없는_게시글로_처리한다() {
+        Board board = board();
+        board.getUser().markDeleted();
+        when(boardRepository.findById(3L)).thenReturn(Optional.of(board));
+
+        assertThatThrownBy(() -> boardDetailLoader.load(3L))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getCode())
+                .isEqualTo(ErrorCode.BOARD_NOT_FOUND);
+    }
+
+    // 나머지 요청이 모두 첫 조회를 기다리는 상태가 될 때까지 대기
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (count("coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(count("coalesced")).isEqualTo(expected);
+    }
+
+    private long count(String result) {
+        return (long) meterRegistry.counter("board.detail.load", "result", result).count();
+    }
+
+    private static Board board() {
+        User user = User.builder()
+                .username("작성자")
+                .password("password")
+                .email("author@example.com")
+                .providerType(ProviderType.LOCAL)
+                .roleType(RoleType.USER)
+                .profileImageUrl("")
+                .build();
+        return new Board("스프링 스터디", "매일 한 시간씩 공부", user);
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.backend.board.service;
+
+import com.example.backend.board.domain.Board;
+import com.example.backend.board.domain.Category;
+import com.example.backend.board.domain.ChallengeProgress;
+import com.example.backend.board.dto.response.ChallengeProgressResponseDto;
+import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.board.repository.ChallengeProgressRepository;
+import com.example.backend.character.service.CharacterService;
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.todo.domain.Todo;
+import com.example.backend.todo.repository.TodoRepository;
+import com.example.backend.todo.service.TodoService;
+import com.example.backend.user.common.CurrentUserResolver;
+import com.example.backend.user.domain.ProviderType;
+import com.example.backend.user.domain.RoleType;
+import com.example.backend.user.domain.User;
+import com.example.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+ * 첼린지 진행 현황 반영 (완료 / 참여 취소) 과 완료율 계산
+ * 저장소는 mock 으로 두고 어떤 날짜에 얼마를 반영하는지 확인한다.
+ * */
+public class ChallengeProgressServiceTest {
+
+    private static final Long BOARD_ID = 1L;
+    private static final LocalDate DAY1 = LocalDate.of(2022, 8, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2022, 8, 2);
+    private static final LocalDate DAY3 = LocalDate.of(2022, 8, 3);
+
+    private ChallengeProgressRepository challengeProgressRepository;
+    private BoardRepository boardRepository;
+    private ChallengeProgressService challengeProgressService;
+
+    @BeforeEach
+    public void before() {
+        challengeProgressRepository = mock(ChallengeProgressRepository.class);
+        boardRepository = mock(BoardRepository.class);
+        challengeProgressService = new ChallengeProgressService(challengeProgressRepository, boardRepository);
+        when(challengeProgressRepository.existsByBoardIdAndTodoDate(eq(BOARD_ID), any())).thenReturn(true);
+    }
+
+    @Test
+    public void todo_를_완료하면_그_날짜의_완료_인원이_늘어난다() {
+        TodoRepository todoRepository = mock(TodoRepository.class);
+        CurrentUserResolver currentUserResolver = mock(CurrentUserResolver.class);
+        TodoService todoService = new TodoService(
+                todoRepository, mock(UserRepository.class), mock(CharacterService.class), currentUserResolver, challengeProgressService
+        );
+        User participant = user(2L);
+        Todo todo = todo(participant, board(), DAY2, false);
+        when(currentUserResolver.getUser("participant@example.com")).thenReturn(participant);
+        when(todoRepository.findById(10L)).thenReturn(Optional.of(todo));
+
+        todoService.done("participant@example.com", 10L);
+
+        assertThat(todo.isState()).isTrue();
+        verify(challengeProgressRepository, times(1)).increaseDoneCount(BOARD_ID, DAY2, 1);
+        verify(challengeProgressRepository, times(1)).increaseDoneCount(eq(BOARD_ID), any(), anyLong());
+        verify(boardRepository, never()).findAllForUpdate(any());
+    }
+
+    @Test
+    public void 참여를_취소하면_완료했던_날짜만_줄어든다() throws Exception {
+        TodoRepository todoRepository = mock(TodoRepository.class);
+        CurrentUserResolver currentUserResolver = mock(CurrentUserResolver.class);
+        BoardService boardService = new BoardService(
+                boardRepository, currentUserResolver, null, todoRepository, null, null, null, null,
+                mock(ApplicationEventPublisher.class), null, mock(UserRepository.class), null, null, null, null,
+                challengeProgressService, null
+        );
+        Board board = board();
+        User participant = user(2L);
+        List<Todo> todoList = Arrays.asList(
+                todo(participant, board, DAY1, true),
+                todo(participant, board, DAY2, false),
+                todo(participant, board, DAY3, true)
+        );
+        when(currentUserResolver.getUser("participant@example.com")).thenReturn(participant);
+        when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+        when(todoRepository.existsByBoardAndUser(board, participant)).thenReturn(true);
+        when(todoRepository.findAllByBoardAndUser(board, participant)).thenReturn(todoList);
+
+        boardService.cancelChallenge(BOARD_ID, "participant@example.com");
+
+        verify(challengeProgressRepository, times(1)).increaseDoneCount(BOARD_ID, DAY1, -1);
+        verify(challengeProgressRepository, times(1)).increaseDoneCount(BOARD_ID, DAY3, -1);
+        verify(challengeProgressRepository, times(2)).increaseDoneCount(eq(BOARD_ID), any(), anyLong());
+        verify(todoRepository).deleteAll(todoList);
+        verify(boardRepository).decreaseParticipatingCount(BOARD_ID);
+    }
+
+    @Test
+    public void 날짜_row_가_없으면_게시글_lock_을_잡고_반영한다() {
+        when(challengeProgressRepository.existsByBoardIdAndTodoDate(BOARD_ID, DAY1)).thenReturn(false);
+
+        challengeProgressService.changeDoneCount(BOARD_ID, date(DAY1), 1);
+
+        verify(boardRepository, times(1)).findAllForUpdate(Collections.singletonList(BOARD_ID));
+        verify(challengeProgressRepository, times(1)).increaseDoneCount(BOARD_ID, DAY1, 1);
+    }
+
+    @Test
+    public void 날짜별_완료율과_전체_완료율() {
+        Board board = board();
+        ReflectionTestUtils.setField(board, "participatingCount", 4L);
+        when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+        when(challengeProgressRepository.findByBoardIdOrderByTodoDateAsc(BOARD_ID)).thenReturn(Arrays.asList(
+                new ChallengeProgress(BOARD_ID, DAY1, 2),
+                new ChallengeProgress(BOARD_ID, DAY2, 4),
+                new ChallengeProgress(BOARD_ID, DAY3, 0)
+        ));
+
+        ChallengeProgressResponseDto progress = challengeProgressService.getProgress(BOARD_ID);
+
+        assertThat(progress.getParticipantCount()).isEqualTo(4L);
+        assertThat(progress.getDoneCount()).isEqualTo(6L);
+        // 6 / (4 x 3)
+        assertThat(progress.getCompletionRate()).isCloseTo(0.5, within(1e-9));
+        assertThat(progress.getDays()).extracting(ChallengeProgressResponseDto.DayProgress::getTodoDate)
+                .containsExactly(DAY1, DAY2, DAY3);
+        assertThat(progress.getDays()).extracting(ChallengeProgressResponseDto.DayProgress::getCompletionRate)
+                .containsExactly(0.5, 1.0, 0.0);
+    }
+
+    @Test
+    public void 참여자가_없으면_완료율은_0() {
+        Board board = board();
+        ReflectionTestUtils.setField(board, "participatingCount", 0L);
+        when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+        when(challengeProgressRepository.findByBoardIdOrderByTodoDateAsc(BOARD_ID)).thenReturn(Arrays.asList(
+                new ChallengeProgress(BOARD_ID, DAY1, 0),
+                new ChallengeProgress(BOARD_ID, DAY2, 1)
+        ));
+
+        ChallengeProgressResponseDto progress = challengeProgressService.getProgress(BOARD_ID);
+
+        assertThat(progress.getParticipantCount()).isZero();
+        assertThat(progress.getDoneCount()).isEqualTo(1L);
+        assertThat(progress.getCompletionRate()).isZero();
+        assertThat(progress.getDays()).extracting(ChallengeProgressResponseDto.DayProgress::getCompletionRate)
+                .containsExactly(0.0, 0.0);
+    }
+
+    @Test
+    public void 일상글은_진행_현황이_없다() {
+        Board board = board();
+        ReflectionTestUtils.setField(board, "category", Category.DAILY);
+        when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+
+        assertThatThrownBy(() -> challengeProgressService.getProgress(BOARD_ID))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getCode())
+                .isEqualTo(ErrorCode.DAILY_NO_CHALLENGE_PROGRESS);
+    }
+
+    private static User user(Long userSeq) {
+        User user = User.builder()
+                .username("사용자" + userSeq)
+                .password("password")
+                .email(userSeq == 1L ? "author@example.com" : "participant@example.com")
+                .providerType(ProviderType.LOCAL)
+                .roleType(RoleType.USER)
+                .profileImageUrl("")
+                .build();
+        user.setUserSeq(userSeq);
+        return user;
+    }
+
+    // 아직 시작하지 않은 첼린지 (시작일이 없으면 신청 / 취소 가능)
+    private static Board board() {
+        Board board = new Board("스프링 스터디", "매일 한 시간씩 공부", user(1L));
+        ReflectionTestUtils.setField(board, "id", BOARD_ID);
+        ReflectionTestUtils.setField(board, "category", Category.CHALLENGE);
+        return board;
+    }
+
+    private static Todo todo(User user, Board board, LocalDate day, boolean done) {
+        Todo todo = new Todo();
+        ReflectionTestUtils.setField(todo, "user", user);
+        ReflectionTestUtils.setField(todo, "board", board);
+        ReflectionTestUtils.setField(todo, "todoDate", date(day));
+        ReflectionTestUtils.setField(todo, "state", done);
+        return todo;
+    }
+
+    private static Date date(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
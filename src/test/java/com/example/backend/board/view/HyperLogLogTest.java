@@ -0,0 +1,104 @@
+package com.example.backend.board.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void 추정값은_표준_오차의_3배_안에_있다() {
+        for (int precision : new int[]{10, 12, 14}) {
+            double standardError = 1.04 / Math.sqrt(1 << precision);
+            for (int cardinality : new int[]{1_000, 50_000, 300_000}) {
+                HyperLogLog hll = new HyperLogLog(precision);
+                for (long value = 0; value < cardinality; value++) {
+                    hll.offer(HyperLogLog.hash(value + (long) precision * 1_000_000_000L));
+                }
+
+                double error = Math.abs(hll.estimate() - cardinality) / (double) cardinality;
+                assertThat(error).as("precision %d, cardinality %d", precision, cardinality)
+                        .isLessThan(3 * standardError);
+            }
+        }
+    }
+
+    @Test
+    public void 같은_값을_여러_번_넣어도_한_번으로_센다() {
+        HyperLogLog hll = new HyperLogLog(12);
+        for (int repeat = 0; repeat < 10; repeat++) {
+            for (long value = 0; value < 100; value++) {
+                hll.offer(HyperLogLog.hash(value));
+            }
+        }
+
+        // 작은 값은 linear counting 이라 거의 정확
+        assertThat(hll.estimate()).isBetween(95L, 105L);
+        assertThat(hll.offer(HyperLogLog.hash(0))).isFalse();
+    }
+
+    @Test
+    public void 비어있으면_0() {
+        assertThat(new HyperLogLog(HyperLogLog.MIN_PRECISION).estimate()).isZero();
+    }
+
+    @Test
+    public void 합치면_합집합의_추정값() {
+        HyperLogLog left = new HyperLogLog(12);
+        HyperLogLog right = new HyperLogLog(12);
+        HyperLogLog union = new HyperLogLog(12);
+        for (long value = 0; value < 20_000; value++) {
+            left.offer(HyperLogLog.hash(value));
+            union.offer(HyperLogLog.hash(value));
+        }
+        for (long value = 10_000; value < 30_000; value++) {
+            right.offer(HyperLogLog.hash(value));
+            union.offer(HyperLogLog.hash(value));
+        }
+
+        left.merge(right);
+
+        assertThat(left.estimate()).isEqualTo(union.estimate());
+        assertThatThrownBy(() -> left.merge(new HyperLogLog(10))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void 저장한_register_로_복원한다() {
+        HyperLogLog hll = new HyperLogLog(11);
+        for (long value = 0; value < 5_000; value++) {
+            hll.offer(HyperLogLog.hash(value));
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(hll.toBytes());
+
+        assertThat(restored.getPrecision()).isEqualTo(11);
+        assertThat(restored.estimate()).isEqualTo(hll.estimate());
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[100])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[8])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void 복사본은_원본과_따로_바뀐다() {
+        HyperLogLog hll = new HyperLogLog(10);
+        hll.offer(HyperLogLog.hash(1));
+        HyperLogLog copy = hll.copy();
+
+        for (long value = 2; value < 1_000; value++) {
+            copy.offer(HyperLogLog.hash(value));
+        }
+
+        assertThat(hll.estimate()).isEqualTo(1L);
+        assertThat(copy.estimate()).isGreaterThan(900L);
+    }
+
+    @Test
+    public void 표준_오차로_precision_을_정한다() {
+        assertThat(HyperLogLog.precisionFor(0.0163)).isEqualTo(12);
+        assertThat(HyperLogLog.precisionFor(0.01)).isEqualTo(14);
+        // 범위를 벗어나면 최소 / 최대 precision
+        assertThat(HyperLogLog.precisionFor(0.9)).isEqualTo(HyperLogLog.MIN_PRECISION);
+        assertThat(HyperLogLog.precisionFor(0.0001)).isEqualTo(HyperLogLog.MAX_PRECISION);
+        assertThatThrownBy(() -> new HyperLogLog(HyperLogLog.MAX_PRECISION + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
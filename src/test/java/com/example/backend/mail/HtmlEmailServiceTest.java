@@ -0,0 +1,137 @@
+package com.example.backend.mail;
+
+import com.example.backend.exception.CustomException;
+import com.example.backend.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+ * 인증 메일 발송 파이프라인 (batch 발송 / 실패 시 backoff 재시도 / 대기열 가득 참)
+ * JavaMailSender 는 mock 으로 두고 send 호출마다 몇 통을 보냈는지와 시각을 기록한다.
+ * */
+public class HtmlEmailServiceTest {
+
+    private static final long BACKOFF_MILLIS = 200;
+
+    private JavaMailSender emailSender;
+    private SimpleMeterRegistry meterRegistry;
+    // send 호출마다 메일 수, 호출 시각
+    private List<Integer> batchSizes;
+    private List<Long> sentAt;
+    private HtmlEmailService htmlEmailService;
+
+    @BeforeEach
+    public void before() {
+        emailSender = mock(JavaMailSender.class);
+        when(emailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        meterRegistry = new SimpleMeterRegistry();
+        batchSizes = new CopyOnWriteArrayList<>();
+        sentAt = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    public void after() throws InterruptedException {
+        if (htmlEmailService != null) {
+            htmlEmailService.shutdown();
+        }
+    }
+
+    @Test
+    public void 쌓인_메일은_한_번의_send_로_묶어서_보낸다() {
+        recordSend(0);
+        htmlEmailService = service(100);
+        for (int i = 0; i < 5; i++) {
+            htmlEmailService.sendEmail("user" + i + "@example.com", "code" + i);
+        }
+
+        htmlEmailService.start();
+
+        verify(emailSender, timeout(3_000).times(1)).send(any(MimeMessage[].class));
+        assertThat(batchSizes).containsExactly(5);
+    }
+
+    @Test
+    public void 일시적으로_실패하면_backoff_후_다시_보낸다() {
+        recordSend(1);
+        htmlEmailService = service(100);
+        htmlEmailService.start();
+
+        htmlEmailService.sendEmail("user@example.com", "code");
+
+        verify(emailSender, timeout(5_000).times(2)).send(any(MimeMessage[].class));
+        assertThat(batchSizes).containsExactly(1, 1);
+        assertThat(sentAt.get(1) - sentAt.get(0)).isGreaterThanOrEqualTo(BACKOFF_MILLIS);
+        assertThat(meterRegistry.counter("mail.send.retry").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("mail.send.failure").count()).isZero();
+    }
+
+    @Test
+    public void 대기열이_가득_차면_MAIL_QUEUE_FULL() {
+        htmlEmailService = service(2);
+
+        // Worker 를 시작하지 않았으므로 대기열에서 빠지지 않음
+        htmlEmailService.sendEmail("user1@example.com", "code1");
+        htmlEmailService.sendEmail("user2@example.com", "code2");
+
+        assertThatThrownBy(() -> htmlEmailService.sendEmail("user3@example.com", "code3"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getCode())
+                .isEqualTo(ErrorCode.MAIL_QUEUE_FULL);
+    }
+
+    @Test
+    public void 종료_후에는_받지_않고_남은_메일은_보낸다() throws InterruptedException {
+        recordSend(0);
+        htmlEmailService = service(100);
+        htmlEmailService.sendEmail("user@example.com", "code");
+
+        htmlEmailService.shutdown();
+
+        verify(emailSender, times(1)).send(any(MimeMessage[].class));
+        assertThatThrownBy(() -> htmlEmailService.sendEmail("late@example.com", "code"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getCode())
+                .isEqualTo(ErrorCode.MAIL_QUEUE_FULL);
+    }
+
+    // 처음 failures 번은 연결 실패로 던지고 이후에는 성공
+    private void recordSend(int failures) {
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            batchSizes.add(((MimeMessage[]) invocation.getRawArguments()[0]).length);
+            sentAt.add(System.currentTimeMillis());
+            if (calls.getAndIncrement() < failures) {
+                throw new MailSendException("connection refused");
+            }
+            return null;
+        }).when(emailSender).send(any(MimeMessage[].class));
+    }
+
+    // Worker 하나 (batch 를 한 Worker 가 모으도록)
+    private HtmlEmailService service(int queueCapacity) {
+        MailTemplateRenderer templateRenderer = mock(MailTemplateRenderer.class);
+        when(templateRenderer.render(anyString(), anyString())).thenAnswer(invocation -> "<p>" + invocation.getArgument(1) + "</p>");
+        return new HtmlEmailService(emailSender, templateRenderer, meterRegistry, 1, 20, queueCapacity, 5, BACKOFF_MILLIS, 10_000);
+    }
+}
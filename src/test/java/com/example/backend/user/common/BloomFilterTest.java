@@ -0,0 +1,79 @@
+package com.example.backend.user.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BloomFilterTest {
+
+    @Test
+    public void 넣은_값은_항상_있다고_판단한다() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    public void 오탐률은_설정값_근처() {
+        double falsePositiveRate = 0.01;
+        BloomFilter filter = new BloomFilter(10_000, falsePositiveRate);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("닉네임" + i);
+        }
+
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain("없는닉네임" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / (double) trials).isLessThan(falsePositiveRate * 2);
+    }
+
+    @Test
+    public void 비어있으면_모두_없다고_판단한다() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertThat(filter.mightContain("user@example.com")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    // 같은 word 의 bit 를 동시에 켜도 빠지는 값이 없어야 함
+    @Test
+    public void 동시에_넣어도_빠지는_값이_없다() throws Exception {
+        BloomFilter filter = new BloomFilter(40_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = offset; i < 40_000; i += 8) {
+                        filter.add("user" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int i = 0; i < 40_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+    }
+}
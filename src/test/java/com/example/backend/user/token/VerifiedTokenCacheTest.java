@@ -0,0 +1,97 @@
+package com.example.backend.user.token;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "verified-token-cache-test-secret-0123456789abcdef";
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private AuthTokenProvider authTokenProvider;
+
+    @BeforeEach
+    public void before() {
+        verifiedTokenCache = new VerifiedTokenCache(100);
+        authTokenProvider = new AuthTokenProvider(SECRET, verifiedTokenCache);
+    }
+
+    @Test
+    public void 검증한_토큰은_캐시에서_꺼낸다() {
+        String token = createToken(60_000);
+
+        assertThat(authTokenProvider.convertAuthToken(token).validate()).isTrue();
+
+        Claims cached = verifiedTokenCache.get(token);
+        assertThat(cached).isNotNull();
+        assertThat(cached.getSubject()).isEqualTo("user@example.com");
+        assertThat(cached.get("nick")).isEqualTo("닉네임");
+        assertThat(authTokenProvider.convertAuthToken(token).getTokenClaims()).isSameAs(cached);
+    }
+
+    @Test
+    public void 캐시된_토큰도_만료_시각이_지나면_거부한다() throws InterruptedException {
+        // JWT exp 는 초 단위로 잘리므로 정각 초로 맞춰서 1~2 초 뒤 만료
+        long expiry = (System.currentTimeMillis() / 1000 + 1) * 1000 + 1000;
+        String token = authTokenProvider.createAuthToken("user@example.com", "ROLE_USER", "닉네임", new Date(expiry)).getToken();
+        assertThat(authTokenProvider.convertAuthToken(token).validate()).isTrue();
+        assertThat(verifiedTokenCache.get(token)).isNotNull();
+
+        Thread.sleep(Math.max(expiry - System.currentTimeMillis(), 0) + 100);
+
+        assertThat(verifiedTokenCache.get(token)).isNull();
+        assertThat(authTokenProvider.convertAuthToken(token).validate()).isFalse();
+    }
+
+    @Test
+    public void 위변조된_토큰은_캐시에_들어가지_않는다() {
+        String token = createToken(60_000);
+        assertThat(authTokenProvider.convertAuthToken(token).validate()).isTrue();
+
+        // 서명 중간 글자와 payload 를 각각 바꾼 토큰 (서명 마지막 글자는 padding bit 가 섞여 있어서 피함)
+        String[] parts = token.split("\\.");
+        int index = parts[0].length() + parts[1].length() + 2 + 10;
+        String badSignature = token.substring(0, index) + (token.charAt(index) == 'A' ? 'B' : 'A') + token.substring(index + 1);
+        String otherPayload = createToken(120_000).split("\\.")[1];
+        String badPayload = parts[0] + "." + otherPayload + "." + parts[2];
+
+        for (String tampered : new String[]{badSignature, badPayload}) {
+            assertThat(authTokenProvider.convertAuthToken(tampered).validate()).isFalse();
+            assertThat(verifiedTokenCache.get(tampered)).isNull();
+        }
+        // 다른 키로 서명한 토큰
+        String otherKey = new AuthTokenProvider(SECRET + "-other")
+                .createAuthToken("user@example.com", "ROLE_USER", "닉네임", new Date(System.currentTimeMillis() + 60_000))
+                .getToken();
+        assertThat(authTokenProvider.convertAuthToken(otherKey).validate()).isFalse();
+        assertThat(verifiedTokenCache.get(otherKey)).isNull();
+    }
+
+    @Test
+    public void 캐시된_Claims_는_수정할_수_없다() {
+        String token = createToken(60_000);
+        Claims claims = authTokenProvider.convertAuthToken(token).getTokenClaims();
+
+        assertThatThrownBy(() -> claims.put("role", "ROLE_ADMIN")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> claims.setSubject("admin@example.com")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> claims.remove("nick")).isInstanceOf(UnsupportedOperationException.class);
+        claims.getExpiration().setTime(0);
+
+        Claims cached = verifiedTokenCache.get(token);
+        assertThat(cached.get("role")).isEqualTo("ROLE_USER");
+        assertThat(cached.getSubject()).isEqualTo("user@example.com");
+        assertThat(cached.getExpiration().getTime()).isGreaterThan(System.currentTimeMillis());
+    }
+
+    private String createToken(long validMillis) {
+        return authTokenProvider.createAuthToken(
+                "user@example.com", "ROLE_USER", "닉네임", new Date(System.currentTimeMillis() + validMillis)
+        ).getToken();
+    }
+}
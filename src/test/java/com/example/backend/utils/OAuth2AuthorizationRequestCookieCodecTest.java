@@ -0,0 +1,106 @@
+package com.example.backend.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OAuth2AuthorizationRequestCookieCodecTest {
+
+    private final OAuth2AuthorizationRequestCookieCodec codec = new OAuth2AuthorizationRequestCookieCodec("test-secret");
+
+    @Test
+    public void 인코딩한_요청을_그대로_복원한다() {
+        OAuth2AuthorizationRequest request = request();
+
+        OAuth2AuthorizationRequest decoded = codec.decode(codec.encode(request));
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getGrantType()).isEqualTo(request.getGrantType());
+        assertThat(decoded.getAuthorizationUri()).isEqualTo(request.getAuthorizationUri());
+        assertThat(decoded.getClientId()).isEqualTo(request.getClientId());
+        assertThat(decoded.getRedirectUri()).isEqualTo(request.getRedirectUri());
+        assertThat(decoded.getState()).isEqualTo(request.getState());
+        assertThat(decoded.getScopes()).containsExactlyElementsOf(request.getScopes());
+        assertThat(decoded.getAdditionalParameters()).isEqualTo(request.getAdditionalParameters());
+        assertThat(decoded.getAttributes()).isEqualTo(request.getAttributes());
+        // authorizationRequestUri 는 저장하지 않고 다시 만든다
+        assertThat(decoded.getAuthorizationRequestUri()).isEqualTo(request.getAuthorizationRequestUri());
+    }
+
+    @Test
+    public void redirectUri_state_가_없어도_복원한다() {
+        OAuth2AuthorizationRequest request = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .clientId("client")
+                .build();
+
+        OAuth2AuthorizationRequest decoded = codec.decode(codec.encode(request));
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getRedirectUri()).isNull();
+        assertThat(decoded.getState()).isNull();
+        assertThat(decoded.getScopes()).isEmpty();
+    }
+
+    @Test
+    public void 위변조된_쿠키는_null() {
+        byte[] value = Base64.getUrlDecoder().decode(codec.encode(request()));
+        value[10] ^= 1;
+
+        assertThat(codec.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(value))).isNull();
+    }
+
+    @Test
+    public void 다른_키로_만든_쿠키는_null() {
+        String encoded = new OAuth2AuthorizationRequestCookieCodec("other-secret").encode(request());
+
+        assertThat(codec.decode(encoded)).isNull();
+    }
+
+    @Test
+    public void 형식이_잘못된_쿠키는_null() {
+        byte[] value = Base64.getUrlDecoder().decode(codec.encode(request()));
+        value[0] = 2;
+
+        assertThat(codec.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(value))).isNull();
+        assertThat(codec.decode("%%%")).isNull();
+        assertThat(codec.decode("")).isNull();
+        assertThat(codec.decode("AQ")).isNull();
+    }
+
+    // 기존 Java 직렬화 쿠키보다 작아야 함 (쿠키 4KB 제한)
+    @Test
+    public void Java_직렬화보다_작다() {
+        OAuth2AuthorizationRequest request = request();
+
+        String encoded = codec.encode(request);
+        String serialized = Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(request));
+
+        assertThat(encoded.length()).isLessThan(serialized.length() / 2);
+    }
+
+    private static OAuth2AuthorizationRequest request() {
+        Map<String, Object> additionalParameters = new LinkedHashMap<>();
+        additionalParameters.put("nonce", "n-0S6_WzA2Mj");
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("registration_id", "google");
+        attributes.put("nonce", "6cfe1b1d-43b1-4a4e-a0b9-2d0a5e1d7c3f");
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("1234567890-abcdefg.apps.googleusercontent.com")
+                .redirectUri("https://api.example.com/login/oauth2/code/google")
+                .state("kVJtYwzqXLzZ8bC1o5S9ZyKcWJm0fD1YbE2hQ3aR4sA=")
+                .scopes(new LinkedHashSet<>(List.of("email", "profile")))
+                .additionalParameters(additionalParameters)
+                .attributes(attributes)
+                .build();
+    }
+}